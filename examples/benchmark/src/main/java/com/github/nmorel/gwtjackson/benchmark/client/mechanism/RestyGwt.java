@@ -16,13 +16,20 @@
 
 package com.github.nmorel.gwtjackson.benchmark.client.mechanism;
 
+import java.util.Iterator;
+
 import com.github.nmorel.gwtjackson.benchmark.client.data.DataContainer;
+import com.github.nmorel.gwtjackson.client.AsyncReadCallback;
+import com.github.nmorel.gwtjackson.client.ChunkedObjectReader;
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
+import com.github.nmorel.gwtjackson.client.JsonSession;
 import com.github.nmorel.gwtjackson.client.ObjectMapper;
 import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
 import com.github.nmorel.gwtjackson.client.exception.JsonSerializationException;
+import com.github.nmorel.gwtjackson.client.stream.JsonSink;
 import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JavaScriptObject;
 import org.fusesource.restygwt.client.JsonEncoderDecoder;
 
 /**
@@ -44,6 +51,53 @@ public class RestyGwt extends Mechanism {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public DataContainer read( String input, JsonSession session ) throws JsonDeserializationException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void readAsync( String input, AsyncReadCallback<DataContainer> callback ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void readAsync( String input, JsonDeserializationContext ctx, AsyncReadCallback<DataContainer> callback ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Iterator<DataContainer> readElements( String input ) throws JsonDeserializationException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Iterator<DataContainer> readElements( String input, JsonDeserializationContext ctx ) throws JsonDeserializationException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ChunkedObjectReader<DataContainer> newChunkedReader( ChunkedObjectReader.Callback<DataContainer> callback ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ChunkedObjectReader<DataContainer> newChunkedReader( ChunkedObjectReader.Callback<DataContainer> callback,
+                                                                    JsonDeserializationContext ctx ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ChunkedObjectReader<DataContainer> newChunkedArrayReader( ChunkedObjectReader.Callback<DataContainer> callback ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ChunkedObjectReader<DataContainer> newChunkedArrayReader( ChunkedObjectReader.Callback<DataContainer> callback,
+                                                                         JsonDeserializationContext ctx ) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public String write( DataContainer value ) throws JsonSerializationException {
             return mapper.encode( value ).toString();
@@ -53,6 +107,32 @@ public class RestyGwt extends Mechanism {
         public String write( DataContainer value, JsonSerializationContext ctx ) throws JsonSerializationException {
             throw new UnsupportedOperationException();
         }
+
+        @Override
+        public String write( DataContainer value, JsonSession session ) throws JsonSerializationException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void write( DataContainer value, JsonSink sink ) throws JsonSerializationException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void write( DataContainer value, JsonSink sink, JsonSerializationContext ctx ) throws JsonSerializationException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public JavaScriptObject writeToJavaScriptObject( DataContainer value ) throws JsonSerializationException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public JavaScriptObject writeToJavaScriptObject( DataContainer value, JsonSerializationContext ctx ) throws
+                JsonSerializationException {
+            throw new UnsupportedOperationException();
+        }
     }
 
     public static interface DataContainerMapper extends JsonEncoderDecoder<DataContainer> {}
@@ -18,12 +18,15 @@ package com.github.nmorel.gwtjackson.client;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.github.nmorel.gwtjackson.client.deser.collection.JsArrayListJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.map.JsStringMapJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.deser.map.key.KeyDeserializer;
 import com.github.nmorel.gwtjackson.client.ser.map.key.KeySerializer;
 
@@ -111,6 +114,8 @@ public abstract class AbstractConfiguration {
 
     private JsonAutoDetect.Visibility creatorVisibility = JsonAutoDetect.Visibility.DEFAULT;
 
+    private boolean straightLineBeanSerializers = false;
+
     protected AbstractConfiguration() {
         configure();
     }
@@ -224,6 +229,55 @@ public abstract class AbstractConfiguration {
         return this;
     }
 
+    /**
+     * Determines whether the generated bean serializers write their properties with a straight-line method instead of a loop over the
+     * property serializers. Disabled by default, enabling it saves the loop and the per-property dispatch at the cost of a larger code.
+     *
+     * @param straightLineBeanSerializers true to generate the straight-line method
+     */
+    protected AbstractConfiguration straightLineBeanSerializers( boolean straightLineBeanSerializers ) {
+        this.straightLineBeanSerializers = straightLineBeanSerializers;
+        return this;
+    }
+
+    /**
+     * Determines whether {@link List}, {@link Collection} and {@link Iterable} are deserialized into a {@link
+     * com.github.nmorel.gwtjackson.client.utils.JsArrayList} backed by a JavaScript array instead of an {@link ArrayList}. Disabled by
+     * default. A deserializer configured before for one of these types is kept.
+     *
+     * @param jsArrayLists true to deserialize into a {@link com.github.nmorel.gwtjackson.client.utils.JsArrayList}
+     */
+    protected AbstractConfiguration jsArrayLists( boolean jsArrayLists ) {
+        for ( Class<?> type : new Class<?>[]{List.class, Collection.class, Iterable.class} ) {
+            if ( jsArrayLists ) {
+                if ( !mapTypeToDeserializer.containsKey( type ) ) {
+                    mapTypeToDeserializer.put( type, JsArrayListJsonDeserializer.class );
+                }
+            } else if ( JsArrayListJsonDeserializer.class == mapTypeToDeserializer.get( type ) ) {
+                mapTypeToDeserializer.remove( type );
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Determines whether {@link Map} with {@link String} keys are deserialized into a {@link
+     * com.github.nmorel.gwtjackson.client.utils.JsStringMap} backed by a JavaScript object instead of a {@link java.util.LinkedHashMap}.
+     * Disabled by default. A deserializer configured before for {@link Map} is kept.
+     *
+     * @param jsStringMaps true to deserialize into a {@link com.github.nmorel.gwtjackson.client.utils.JsStringMap}
+     */
+    protected AbstractConfiguration jsStringMaps( boolean jsStringMaps ) {
+        if ( jsStringMaps ) {
+            if ( !mapTypeToDeserializer.containsKey( Map.class ) ) {
+                mapTypeToDeserializer.put( Map.class, JsStringMapJsonDeserializer.class );
+            }
+        } else if ( JsStringMapJsonDeserializer.class == mapTypeToDeserializer.get( Map.class ) ) {
+            mapTypeToDeserializer.remove( Map.class );
+        }
+        return this;
+    }
+
     protected abstract void configure();
 
     public Map<Class, Class> getMapTypeToSerializer() {
@@ -269,4 +323,8 @@ public abstract class AbstractConfiguration {
     public Visibility getCreatorVisibility() {
         return creatorVisibility;
     }
+
+    public boolean isStraightLineBeanSerializers() {
+        return straightLineBeanSerializers;
+    }
 }
@@ -16,11 +16,17 @@
 
 package com.github.nmorel.gwtjackson.client;
 
+import java.util.Iterator;
+
 import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
 import com.github.nmorel.gwtjackson.client.exception.JsonSerializationException;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonSink;
 import com.github.nmorel.gwtjackson.client.stream.JsonToken;
 import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+import com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonWriter;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.Scheduler;
 
 /**
  * Base implementation of {@link ObjectMapper}. It delegates the serialization/deserialization to a serializer/deserializer.
@@ -46,24 +52,28 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
 
     @Override
     public T read( String in, JsonDeserializationContext ctx ) throws JsonDeserializationException {
-        JsonReader reader = ctx.newJsonReader( in );
+        return read( in, ctx, ctx.isUnwrapRootValue() );
+    }
 
+    /**
+     * Reads the input, unwrapping the root value only if {@code unwrapRootValue} is true.
+     */
+    T read( String in, JsonDeserializationContext ctx, boolean unwrapRootValue ) throws JsonDeserializationException {
+        return read( ctx.newJsonReader( in ), ctx, unwrapRootValue );
+    }
+
+    @Override
+    public T read( String in, JsonSession session ) throws JsonDeserializationException {
+        JsonDeserializationContext ctx = session.getDeserializationContext();
+        return read( session.newJsonReader( in ), ctx, ctx.isUnwrapRootValue() );
+    }
+
+    private T read( JsonReader reader, JsonDeserializationContext ctx, boolean unwrapRootValue ) throws JsonDeserializationException {
         try {
 
-            if ( ctx.isUnwrapRootValue() ) {
-
-                if ( JsonToken.BEGIN_OBJECT != reader.peek() ) {
-                    throw ctx.traceError( "Unwrap root value is enabled but the input is not a JSON Object", reader );
-                }
-                reader.beginObject();
-                if ( JsonToken.END_OBJECT == reader.peek() ) {
-                    throw ctx.traceError( "Unwrap root value is enabled but the JSON Object is empty", reader );
-                }
-                String name = reader.nextName();
-                if ( !name.equals( rootName ) ) {
-                    throw ctx.traceError( "Unwrap root value is enabled but the name '" + name + "' don't match the expected rootName " +
-                            "'" + rootName + "'", reader );
-                }
+            if ( unwrapRootValue ) {
+
+                beginRootValue( reader, ctx );
                 T result = getDeserializer().deserialize( reader, ctx );
                 reader.endObject();
                 return result;
@@ -82,6 +92,72 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
         }
     }
 
+    @Override
+    public Iterator<T> readElements( String in ) throws JsonDeserializationException {
+        return readElements( in, JsonDeserializationContext.builder().build() );
+    }
+
+    @Override
+    public Iterator<T> readElements( String in, JsonDeserializationContext ctx ) throws JsonDeserializationException {
+        JsonReader reader = ctx.newJsonReader( in );
+        try {
+            return new JsonArrayIterator<T>( getDeserializer(), reader, ctx );
+        } catch ( JsonDeserializationException e ) {
+            // already logged, we just throw it
+            throw e;
+        } catch ( RuntimeException e ) {
+            throw ctx.traceError( e, reader );
+        }
+    }
+
+    @Override
+    public ChunkedObjectReader<T> newChunkedReader( ChunkedObjectReader.Callback<T> callback ) {
+        return newChunkedReader( callback, JsonDeserializationContext.builder().build() );
+    }
+
+    @Override
+    public ChunkedObjectReader<T> newChunkedReader( ChunkedObjectReader.Callback<T> callback, JsonDeserializationContext ctx ) {
+        return new ChunkedObjectReader<T>( this, false, callback, ctx );
+    }
+
+    @Override
+    public ChunkedObjectReader<T> newChunkedArrayReader( ChunkedObjectReader.Callback<T> callback ) {
+        return newChunkedArrayReader( callback, JsonDeserializationContext.builder().build() );
+    }
+
+    @Override
+    public ChunkedObjectReader<T> newChunkedArrayReader( ChunkedObjectReader.Callback<T> callback, JsonDeserializationContext ctx ) {
+        return new ChunkedObjectReader<T>( this, true, callback, ctx );
+    }
+
+    /**
+     * Enters the wrapping object and positions the reader on the root value.
+     */
+    void beginRootValue( JsonReader reader, JsonDeserializationContext ctx ) {
+        if ( JsonToken.BEGIN_OBJECT != reader.peek() ) {
+            throw ctx.traceError( "Unwrap root value is enabled but the input is not a JSON Object", reader );
+        }
+        reader.beginObject();
+        if ( JsonToken.END_OBJECT == reader.peek() ) {
+            throw ctx.traceError( "Unwrap root value is enabled but the JSON Object is empty", reader );
+        }
+        String name = reader.nextName();
+        if ( !name.equals( rootName ) ) {
+            throw ctx.traceError( "Unwrap root value is enabled but the name '" + name + "' don't match the expected rootName " +
+                    "'" + rootName + "'", reader );
+        }
+    }
+
+    @Override
+    public void readAsync( String in, AsyncReadCallback<T> callback ) {
+        readAsync( in, JsonDeserializationContext.builder().build(), callback );
+    }
+
+    @Override
+    public void readAsync( String in, JsonDeserializationContext ctx, AsyncReadCallback<T> callback ) {
+        Scheduler.get().scheduleIncremental( new AsyncReadCommand<T>( this, in, ctx, callback ) );
+    }
+
     /**
      * @return the {@link JsonDeserializer} used by this mapper
      */
@@ -106,16 +182,17 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
 
     @Override
     public String write( T value, JsonSerializationContext ctx ) throws JsonSerializationException {
-        JsonWriter writer = ctx.newJsonWriter();
+        return write( value, ctx.newJsonWriter(), ctx );
+    }
+
+    @Override
+    public String write( T value, JsonSession session ) throws JsonSerializationException {
+        return write( value, session.newJsonWriter(), session.getSerializationContext() );
+    }
+
+    private String write( T value, JsonWriter writer, JsonSerializationContext ctx ) throws JsonSerializationException {
         try {
-            if ( ctx.isWrapRootValue() ) {
-                writer.beginObject();
-                writer.name( rootName );
-                getSerializer().serialize( writer, value, ctx );
-                writer.endObject();
-            } else {
-                getSerializer().serialize( writer, value, ctx );
-            }
+            serialize( value, writer, ctx );
             return writer.getOutput();
         } catch ( JsonSerializationException e ) {
             // already logged, we just throw it
@@ -125,6 +202,55 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
         }
     }
 
+    @Override
+    public void write( T value, JsonSink sink ) throws JsonSerializationException {
+        write( value, sink, JsonSerializationContext.builder().build() );
+    }
+
+    @Override
+    public void write( T value, JsonSink sink, JsonSerializationContext ctx ) throws JsonSerializationException {
+        JsonWriter writer = ctx.newJsonWriter( sink );
+        try {
+            serialize( value, writer, ctx );
+            writer.flush();
+        } catch ( JsonSerializationException e ) {
+            // already logged, we just throw it
+            throw e;
+        } catch ( RuntimeException e ) {
+            throw ctx.traceError( value, e, writer );
+        }
+    }
+
+    @Override
+    public JavaScriptObject writeToJavaScriptObject( T value ) throws JsonSerializationException {
+        return writeToJavaScriptObject( value, JsonSerializationContext.builder().build() );
+    }
+
+    @Override
+    public JavaScriptObject writeToJavaScriptObject( T value, JsonSerializationContext ctx ) throws JsonSerializationException {
+        NativeJsonWriter writer = ctx.newNativeJsonWriter();
+        try {
+            serialize( value, writer, ctx );
+            return writer.getOutputObject();
+        } catch ( JsonSerializationException e ) {
+            // already logged, we just throw it
+            throw e;
+        } catch ( RuntimeException e ) {
+            throw ctx.traceError( value, e, writer );
+        }
+    }
+
+    private void serialize( T value, JsonWriter writer, JsonSerializationContext ctx ) {
+        if ( ctx.isWrapRootValue() ) {
+            writer.beginObject();
+            writer.name( rootName );
+            getSerializer().serialize( writer, value, ctx );
+            writer.endObject();
+        } else {
+            getSerializer().serialize( writer, value, ctx );
+        }
+    }
+
     /**
      * @return the {@link JsonSerializer} used by this mapper
      */
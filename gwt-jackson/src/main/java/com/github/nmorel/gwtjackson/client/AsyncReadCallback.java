@@ -0,0 +1,44 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client;
+
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+
+/**
+ * Receives the result of {@link ObjectReader#readAsync(String, JsonDeserializationContext, AsyncReadCallback)}.
+ *
+ * @param <T> Type of the read object
+ *
+ * @author Nicolas Morel
+ */
+public interface AsyncReadCallback<T> {
+
+    /**
+     * Called when the input has been read.
+     *
+     * @param result the read object
+     */
+    void onSuccess( T result );
+
+    /**
+     * Called when an exception occurs while reading the input.
+     *
+     * @param exception a {@link JsonDeserializationException} or the original exception if {@link
+     * JsonDeserializationContext.Builder#wrapExceptions(boolean)} is disabled
+     */
+    void onFailure( RuntimeException exception );
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client;
+
+import java.util.Collection;
+
+import com.github.nmorel.gwtjackson.client.deser.collection.BaseCollectionJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.core.client.Scheduler.RepeatingCommand;
+
+/**
+ * Reads an input in time slices. The reader and the collection being filled are kept between two slices.
+ * <p>A pull-based reader can't be suspended in the middle of a value, so only the elements of a root collection are spread across
+ * slices. A nested collection is read in the same slice as the value containing it.</p>
+ *
+ * @param <T> Type of the read object
+ *
+ * @author Nicolas Morel
+ * @see ObjectReader#readAsync(String, JsonDeserializationContext, AsyncReadCallback)
+ */
+final class AsyncReadCommand<T> implements RepeatingCommand {
+
+    /**
+     * Maximum duration of a slice in milliseconds, below the 50ms of a long task
+     */
+    private static final double SLICE_DURATION = 30;
+
+    private final AbstractObjectMapper<T> mapper;
+
+    private final String input;
+
+    private final JsonDeserializationContext ctx;
+
+    private final AsyncReadCallback<T> callback;
+
+    private JsonReader reader;
+
+    /**
+     * Deserializer of the collection read across several slices, null if the object is read in a single slice
+     */
+    private BaseCollectionJsonDeserializer<Collection<Object>, Object> collectionDeserializer;
+
+    private Collection<Object> collection;
+
+    AsyncReadCommand( AbstractObjectMapper<T> mapper, String input, JsonDeserializationContext ctx, AsyncReadCallback<T> callback ) {
+        this.mapper = mapper;
+        this.input = input;
+        this.ctx = ctx;
+        this.callback = callback;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean execute() {
+        Duration duration = new Duration();
+        T result = null;
+        try {
+            if ( null == reader ) {
+                reader = ctx.newJsonReader( input );
+                if ( ctx.isUnwrapRootValue() ) {
+                    mapper.beginRootValue( reader, ctx );
+                }
+
+                JsonDeserializer<T> deserializer = mapper.getDeserializer();
+                if ( deserializer instanceof BaseCollectionJsonDeserializer && JsonToken.BEGIN_ARRAY == reader.peek() ) {
+                    collectionDeserializer = (BaseCollectionJsonDeserializer<Collection<Object>, Object>) deserializer;
+                    collection = collectionDeserializer.beginElements( reader );
+                } else {
+                    result = complete( deserializer.deserialize( reader, ctx ) );
+                }
+            }
+
+            if ( null != reader ) {
+                boolean hasNext;
+                do {
+                    hasNext = collectionDeserializer.deserializeNextElement( reader, ctx, JsonDeserializerParameters.DEFAULT, collection );
+                } while ( hasNext && duration.elapsedMillis() < SLICE_DURATION );
+
+                if ( hasNext ) {
+                    // there are elements left, we give the hand back to the browser
+                    return true;
+                }
+                result = complete( (T) collection );
+            }
+
+        } catch ( JsonDeserializationException e ) {
+            // already logged
+            callback.onFailure( e );
+            return false;
+        } catch ( RuntimeException e ) {
+            callback.onFailure( ctx.traceError( e, reader ) );
+            return false;
+        }
+
+        // outside of the try, an exception thrown by the callback is not a read failure
+        callback.onSuccess( result );
+        return false;
+    }
+
+    /**
+     * Ends the read and releases the reader and the collection.
+     *
+     * @return the given result
+     */
+    private T complete( T result ) {
+        if ( ctx.isUnwrapRootValue() ) {
+            reader.endObject();
+        }
+        reader = null;
+        collection = null;
+        return result;
+    }
+}
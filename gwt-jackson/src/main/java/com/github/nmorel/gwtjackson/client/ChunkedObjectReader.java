@@ -0,0 +1,155 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+import com.github.nmorel.gwtjackson.client.stream.impl.JsonChunkScanner;
+
+/**
+ * Reads a JSON input received in successive chunks, for example from the progress events of a request or from web socket frames.
+ * <p>The chunks are given to {@link #feed(String)} as they arrive and the read objects are given to the {@link Callback} as soon as their
+ * input is complete so the decoding overlaps with the transfer. {@link #end()} must be called once the whole input has been fed.</p>
+ * <p>Example : </p>
+ * <pre>
+ * public interface RowReader extends ObjectReader&lt;Row&gt; {}
+ *
+ * RowReader reader = GWT.create(RowReader.class);
+ * ChunkedObjectReader&lt;Row&gt; chunkedReader = reader.newChunkedArrayReader(new ChunkedObjectReader.Callback&lt;Row&gt;() {
+ *     public void onRead(Row row) {
+ *         table.addRow(row);
+ *     }
+ * });
+ * chunkedReader.feed("[{\"id\":1},{\"i");
+ * chunkedReader.feed("d\":2}]");
+ * chunkedReader.end();
+ * </pre>
+ *
+ * @param <T> Type of the read objects
+ *
+ * @author Nicolas Morel
+ * @see ObjectReader#newChunkedReader(Callback, JsonDeserializationContext)
+ * @see ObjectReader#newChunkedArrayReader(Callback, JsonDeserializationContext)
+ */
+public final class ChunkedObjectReader<T> {
+
+    /**
+     * Receives the objects read by a {@link ChunkedObjectReader}
+     *
+     * @param <T> Type of the read objects
+     */
+    public interface Callback<T> {
+
+        /**
+         * @param value the object read
+         */
+        void onRead( T value );
+    }
+
+    private final Callback<T> callback;
+
+    private final JsonDeserializationContext ctx;
+
+    private final JsonChunkScanner scanner;
+
+    /**
+     * Objects read from the current chunk, given to the callback once the chunk is read
+     */
+    private List<T> values = new ArrayList<T>();
+
+    /**
+     * @param mapper the mapper used to read the objects
+     * @param arrayElements true if the input is a JSON array and each of its elements must be read, false if the input is the object
+     * @param callback the callback receiving the read objects
+     * @param ctx Context for the full reading process
+     */
+    ChunkedObjectReader( final AbstractObjectMapper<T> mapper, final boolean arrayElements, final Callback<T> callback, final
+    JsonDeserializationContext ctx ) {
+        this.callback = callback;
+        this.ctx = ctx;
+        this.scanner = new JsonChunkScanner( arrayElements, new JsonChunkScanner.Listener() {
+            @Override
+            public void onValue( String json ) {
+                // the root value can only be unwrapped when we read the whole input as one object
+                values.add( mapper.read( json, ctx, !arrayElements && ctx.isUnwrapRootValue() ) );
+            }
+        } );
+    }
+
+    /**
+     * Reads the next chunk of the input. The callback is called for each object completed by this chunk.
+     *
+     * @param chunk the next chunk of the input
+     *
+     * @throws JsonDeserializationException if an exception occurs while reading the input
+     */
+    public void feed( String chunk ) throws JsonDeserializationException {
+        RuntimeException failure = null;
+        try {
+            scanner.feed( chunk );
+        } catch ( JsonDeserializationException e ) {
+            // already logged
+            failure = e;
+        } catch ( RuntimeException e ) {
+            failure = ctx.traceError( e );
+        }
+
+        deliverValues();
+        if ( null != failure ) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Signals the end of the input. An input that is a single number or literal is read at this point.
+     *
+     * @throws JsonDeserializationException if the input is incomplete or if an exception occurs while reading the input
+     */
+    public void end() throws JsonDeserializationException {
+        RuntimeException failure = null;
+        try {
+            scanner.end();
+        } catch ( JsonDeserializationException e ) {
+            // already logged
+            failure = e;
+        } catch ( RuntimeException e ) {
+            failure = ctx.traceError( e );
+        }
+
+        deliverValues();
+        if ( null != failure ) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Gives the objects read so far to the callback. It is called outside of the try of the read so an exception thrown by the callback
+     * is not a read failure.
+     */
+    private void deliverValues() {
+        if ( values.isEmpty() ) {
+            return;
+        }
+        List<T> read = values;
+        values = new ArrayList<T>();
+        for ( T value : read ) {
+            callback.onRead( value );
+        }
+    }
+}
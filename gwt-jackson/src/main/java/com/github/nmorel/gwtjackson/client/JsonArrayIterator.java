@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+
+/**
+ * {@link Iterator} deserializing the elements of a JSON array one at a time, when they are requested.
+ *
+ * @param <T> Type of the elements
+ *
+ * @author Nicolas Morel
+ * @see ObjectReader#readElements(String, JsonDeserializationContext)
+ */
+final class JsonArrayIterator<T> implements Iterator<T> {
+
+    private final JsonDeserializer<T> deserializer;
+
+    private final JsonReader reader;
+
+    private final JsonDeserializationContext ctx;
+
+    /**
+     * True if the input is a single value read as an array of one element
+     */
+    private boolean singleValue;
+
+    private boolean done;
+
+    /**
+     * @param deserializer {@link JsonDeserializer} used to map the elements
+     * @param reader reader positioned at the beginning of the array
+     * @param ctx Context for the full reading process
+     */
+    JsonArrayIterator( JsonDeserializer<T> deserializer, JsonReader reader, JsonDeserializationContext ctx ) {
+        this.deserializer = deserializer;
+        this.reader = reader;
+        this.ctx = ctx;
+
+        if ( JsonToken.BEGIN_ARRAY == reader.peek() ) {
+            reader.beginArray();
+        } else if ( ctx.isAcceptSingleValueAsArray() ) {
+            singleValue = true;
+        } else {
+            throw ctx.traceError( "Cannot deserialize the elements of an array out of " + reader.peek() + " token", reader );
+        }
+    }
+
+    @Override
+    public boolean hasNext() throws JsonDeserializationException {
+        if ( done ) {
+            return false;
+        }
+        if ( singleValue ) {
+            return true;
+        }
+        try {
+            if ( JsonToken.END_ARRAY == reader.peek() ) {
+                reader.endArray();
+                done = true;
+                return false;
+            }
+            return true;
+        } catch ( JsonDeserializationException e ) {
+            // already logged, we just throw it
+            throw e;
+        } catch ( RuntimeException e ) {
+            throw ctx.traceError( e, reader );
+        }
+    }
+
+    @Override
+    public T next() throws JsonDeserializationException {
+        if ( !hasNext() ) {
+            throw new NoSuchElementException();
+        }
+        if ( singleValue ) {
+            done = true;
+        }
+        try {
+            return deserializer.deserialize( reader, ctx );
+        } catch ( JsonDeserializationException e ) {
+            // already logged, we just throw it
+            throw e;
+        } catch ( RuntimeException e ) {
+            throw ctx.traceError( e, reader );
+        }
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+}
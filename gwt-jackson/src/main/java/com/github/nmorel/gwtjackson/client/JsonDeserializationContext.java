@@ -22,8 +22,11 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.ObjectIdGenerator.IdKey;
+import com.github.nmorel.gwtjackson.client.deser.bean.IdentityDeserializationInfo;
+import com.github.nmorel.gwtjackson.client.deser.bean.SimpleStringMap;
 import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonReader;
 import com.github.nmorel.gwtjackson.client.stream.impl.NonBufferedJsonReader;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.core.client.JavaScriptObject;
@@ -65,6 +68,8 @@ public class JsonDeserializationContext extends JsonMappingContext {
 
         protected boolean useBrowserTimezone = false;
 
+        protected boolean useNativeParser = false;
+
         /**
          * @deprecated Use {@link JsonDeserializationContext#builder()} instead. This constructor will be made protected in v1.0.
          */
@@ -173,9 +178,28 @@ public class JsonDeserializationContext extends JsonMappingContext {
             return this;
         }
 
+        /**
+         * Feature that determines whether gwt-jackson should parse the input with the browser's native {@code JSON.parse} and read the
+         * resulting tree instead of tokenizing the input itself.
+         * <br>
+         * <br>
+         * The input is read the usual way if {@code JSON.parse} rejects it (non-strict JSON) or if it contains a number with more digits
+         * than a double can hold. The other numbers are read from their JavaScript value so this feature should not be enabled if the
+         * literal form of the decimals matters (like {@link java.math.BigDecimal} scale).
+         * <br>
+         * <br>
+         * Option is disabled by default.
+         *
+         * @see NativeJsonReader
+         */
+        public Builder useNativeParser( boolean useNativeParser ) {
+            this.useNativeParser = useNativeParser;
+            return this;
+        }
+
         public final JsonDeserializationContext build() {
             return new JsonDeserializationContext( failOnUnknownProperties, unwrapRootValue, acceptSingleValueAsArray, wrapExceptions,
-                    useSafeEval, readUnknownEnumValuesAsNull, useBrowserTimezone );
+                    useSafeEval, readUnknownEnumValuesAsNull, useBrowserTimezone, useNativeParser );
         }
     }
 
@@ -191,8 +215,42 @@ public class JsonDeserializationContext extends JsonMappingContext {
 
     private static final Logger logger = Logger.getLogger( "JsonDeserialization" );
 
+    /**
+     * Returns the prefix of the keys built by {@link #scalarIdKey(String, Object)} for the ids of the given generator and scope.
+     *
+     * @param type Type of the generator
+     * @param scope Scope of the ids, may be null
+     *
+     * @return the prefix
+     */
+    public static String scalarIdKeyPrefix( Class<?> type, Class<?> scope ) {
+        return type.getName() + '|' + (null == scope ? "" : scope.getName()) + '|';
+    }
+
+    /**
+     * Returns a string identifying the given id when it is a string, a boolean, a character or a boxed number. Two keys are equal if
+     * and only if the {@link IdKey} of the same ids would be equal.
+     *
+     * @param prefix prefix returned by {@link #scalarIdKeyPrefix(Class, Class)}
+     * @param id Identifier
+     *
+     * @return the key or null if the id is not a scalar value
+     */
+    public static String scalarIdKey( String prefix, Object id ) {
+        if ( id instanceof String || id instanceof Integer || id instanceof Long || id instanceof Double || id instanceof Float || id
+                instanceof Short || id instanceof Byte || id instanceof Boolean || id instanceof Character ) {
+            return prefix + id.getClass().getName() + '|' + id;
+        }
+        return null;
+    }
+
     private Map<IdKey, Object> idToObject;
 
+    /**
+     * Objects indexed by the key of their scalar id, avoids the allocation and hashing of an {@link IdKey} for the usual ids
+     */
+    private SimpleStringMap<Object> scalarIdToObject;
+
     /*
      * Deserialization options
      */
@@ -210,9 +268,11 @@ public class JsonDeserializationContext extends JsonMappingContext {
 
     private final boolean useBrowserTimezone;
 
+    private final boolean useNativeParser;
+
     private JsonDeserializationContext( boolean failOnUnknownProperties, boolean unwrapRootValue, boolean acceptSingleValueAsArray,
                                         boolean wrapExceptions, boolean useSafeEval, boolean readUnknownEnumValuesAsNull,
-                                        boolean useBrowserTimezone ) {
+                                        boolean useBrowserTimezone, boolean useNativeParser ) {
         this.failOnUnknownProperties = failOnUnknownProperties;
         this.unwrapRootValue = unwrapRootValue;
         this.acceptSingleValueAsArray = acceptSingleValueAsArray;
@@ -220,6 +280,7 @@ public class JsonDeserializationContext extends JsonMappingContext {
         this.useSafeEval = useSafeEval;
         this.readUnknownEnumValuesAsNull = readUnknownEnumValuesAsNull;
         this.useBrowserTimezone = useBrowserTimezone;
+        this.useNativeParser = useNativeParser;
     }
 
     @Override
@@ -269,8 +330,22 @@ public class JsonDeserializationContext extends JsonMappingContext {
         return useBrowserTimezone;
     }
 
+    /**
+     * @see Builder#useNativeParser(boolean)
+     */
+    public boolean isUseNativeParser() {
+        return useNativeParser;
+    }
+
     public JsonReader newJsonReader( String input ) {
-        JsonReader reader = new NonBufferedJsonReader( input );
+        JsonReader reader = null;
+        if ( useNativeParser ) {
+            reader = NativeJsonReader.parse( input );
+        }
+        if ( null == reader ) {
+            // lenient inputs are rejected by JSON.parse
+            reader = new NonBufferedJsonReader( input );
+        }
         reader.setLenient( true );
         return reader;
     }
@@ -340,7 +415,22 @@ public class JsonDeserializationContext extends JsonMappingContext {
         }
     }
 
+    /**
+     * Forgets the object ids of the previous read so the context can be used for a new one.
+     */
+    void reset() {
+        if ( null != idToObject ) {
+            idToObject.clear();
+        }
+        scalarIdToObject = null;
+    }
+
     public void addObjectId( IdKey id, Object instance ) {
+        String key = scalarIdKey( id );
+        if ( null != key ) {
+            addObjectWithScalarId( key, instance );
+            return;
+        }
         if ( null == idToObject ) {
             idToObject = new HashMap<IdKey, Object>();
         }
@@ -348,9 +438,65 @@ public class JsonDeserializationContext extends JsonMappingContext {
     }
 
     public Object getObjectWithId( IdKey id ) {
+        String key = scalarIdKey( id );
+        if ( null != key ) {
+            return getObjectWithScalarId( key );
+        }
         if ( null != idToObject ) {
             return idToObject.get( id );
         }
         return null;
     }
+
+    /**
+     * Used by generated {@link com.github.nmorel.gwtjackson.client.deser.bean.AbstractBeanJsonDeserializer}. Same as {@link
+     * #addObjectId(IdKey, Object)} but the {@link IdKey} is only created when the id is not a scalar value.
+     *
+     * @param identityInfo identity informations of the bean
+     * @param id Identifier
+     * @param instance object with the given id
+     */
+    public void addObjectId( IdentityDeserializationInfo<?> identityInfo, Object id, Object instance ) {
+        String key = identityInfo.newScalarIdKey( id );
+        if ( null == key ) {
+            addObjectId( identityInfo.newIdKey( id ), instance );
+        } else {
+            addObjectWithScalarId( key, instance );
+        }
+    }
+
+    /**
+     * Used by generated {@link com.github.nmorel.gwtjackson.client.deser.bean.AbstractBeanJsonDeserializer}. Same as {@link
+     * #getObjectWithId(IdKey)} but the {@link IdKey} is only created when the id is not a scalar value.
+     *
+     * @param identityInfo identity informations of the bean
+     * @param id Identifier
+     *
+     * @return the object with the given id or null if there is none
+     */
+    public Object getObjectWithId( IdentityDeserializationInfo<?> identityInfo, Object id ) {
+        String key = identityInfo.newScalarIdKey( id );
+        if ( null == key ) {
+            return getObjectWithId( identityInfo.newIdKey( id ) );
+        }
+        return getObjectWithScalarId( key );
+    }
+
+    private static String scalarIdKey( IdKey id ) {
+        return scalarIdKey( scalarIdKeyPrefix( id.type, id.scope ), id.key );
+    }
+
+    private void addObjectWithScalarId( String key, Object instance ) {
+        if ( null == scalarIdToObject ) {
+            scalarIdToObject = JavaScriptObject.createObject().cast();
+        }
+        scalarIdToObject.put( key, instance );
+    }
+
+    private Object getObjectWithScalarId( String key ) {
+        if ( null != scalarIdToObject ) {
+            return scalarIdToObject.get( key );
+        }
+        return null;
+    }
 }
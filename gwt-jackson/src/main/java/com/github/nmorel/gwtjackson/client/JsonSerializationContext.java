@@ -28,9 +28,13 @@ import com.fasterxml.jackson.annotation.ObjectIdGenerator;
 import com.github.nmorel.gwtjackson.client.exception.JsonSerializationException;
 import com.github.nmorel.gwtjackson.client.ser.bean.AbstractBeanJsonSerializer;
 import com.github.nmorel.gwtjackson.client.ser.bean.ObjectIdSerializer;
+import com.github.nmorel.gwtjackson.client.stream.JsonSink;
 import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
 import com.github.nmorel.gwtjackson.client.stream.impl.FastJsonWriter;
+import com.github.nmorel.gwtjackson.client.stream.impl.JsonOutputBuffer;
+import com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonWriter;
 import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JavaScriptObject;
 
 /**
  * Context for the serialization process.
@@ -78,6 +82,12 @@ public class JsonSerializationContext extends JsonMappingContext {
 
         protected boolean wrapExceptions = true;
 
+        protected JsonOutputBuffer.Type outputBufferType = JsonOutputBuffer.Type.STRING_BUILDER;
+
+        protected boolean useNativeStringify = false;
+
+        protected int sinkChunkSize = JsonOutputBuffer.CHUNK_SIZE;
+
         /**
          * @deprecated Use {@link JsonSerializationContext#builder()} instead. This constructor will be made protected in v1.0.
          */
@@ -259,10 +269,53 @@ public class JsonSerializationContext extends JsonMappingContext {
             return this;
         }
 
+        /**
+         * Determines how the output is built. Depending on the browser and the size of the output, concatenating the strings or
+         * joining an array of chunks is faster.
+         * <br>
+         * <br>
+         * {@link JsonOutputBuffer.Type#STRING_BUILDER} is used by default.
+         */
+        public Builder outputBufferType( JsonOutputBuffer.Type outputBufferType ) {
+            this.outputBufferType = outputBufferType;
+            return this;
+        }
+
+        /**
+         * Feature that determines whether gwt-jackson should build a tree of JavaScript objects and write it with the browser's native
+         * {@code JSON.stringify} instead of writing the output itself.
+         * <br>
+         * <br>
+         * The names are the keys of JavaScript objects so the integer-like names are written first and a repeated name keeps only its
+         * last value.
+         * <br>
+         * <br>
+         * Option is disabled by default.
+         *
+         * @see NativeJsonWriter
+         */
+        public Builder useNativeStringify( boolean useNativeStringify ) {
+            this.useNativeStringify = useNativeStringify;
+            return this;
+        }
+
+        /**
+         * Size of the chunks given to a {@link JsonSink} by {@link ObjectWriter#write(Object, JsonSink, JsonSerializationContext)}. The
+         * last chunk of the output is usually smaller.
+         * <br>
+         * <br>
+         * {@link JsonOutputBuffer#CHUNK_SIZE} is used by default.
+         */
+        public Builder sinkChunkSize( int sinkChunkSize ) {
+            this.sinkChunkSize = sinkChunkSize;
+            return this;
+        }
+
         public final JsonSerializationContext build() {
             return new JsonSerializationContext( useEqualityForObjectId, serializeNulls, writeDatesAsTimestamps,
                     writeDateKeysAsTimestamps, indent, wrapRootValue, writeCharArraysAsJsonArrays, writeNullMapValues,
-                    writeEmptyJsonArrays, orderMapEntriesByKeys, writeSingleElemArraysUnwrapped, wrapExceptions );
+                    writeEmptyJsonArrays, orderMapEntriesByKeys, writeSingleElemArraysUnwrapped, wrapExceptions, outputBufferType,
+                    useNativeStringify, sinkChunkSize );
         }
     }
 
@@ -278,8 +331,40 @@ public class JsonSerializationContext extends JsonMappingContext {
 
     private static final Logger logger = Logger.getLogger( "JsonSerialization" );
 
+    /**
+     * True in compiled code if the browser has a native {@code WeakMap} to index the object ids by their object
+     */
+    private static final boolean WEAK_MAP_SUPPORTED = GWT.isScript() && isWeakMapSupported();
+
+    private static native boolean isWeakMapSupported() /*-{
+        return typeof WeakMap === 'function';
+    }-*/;
+
+    private static native JavaScriptObject newObjectToObjectId() /*-{
+        return new WeakMap();
+    }-*/;
+
+    private static native void putObjectId( JavaScriptObject map, Object object, ObjectIdSerializer<?> id ) /*-{
+        map.set(object, id);
+    }-*/;
+
+    private static native ObjectIdSerializer<?> getObjectId( JavaScriptObject map, Object object ) /*-{
+        var id = map.get(object);
+        return id === undefined ? null : id;
+    }-*/;
+
+    private static native boolean isJavaScriptObject( Object object ) /*-{
+        return object !== null && typeof object === 'object';
+    }-*/;
+
     private Map<Object, ObjectIdSerializer<?>> mapObjectId;
 
+    /**
+     * Object ids indexed by their object in a native {@code WeakMap}, used instead of {@link #mapObjectId} in compiled code when the
+     * objects are compared by identity and the browser has a {@code WeakMap}
+     */
+    private JavaScriptObject objectToObjectId;
+
     private List<ObjectIdGenerator<?>> generators;
 
     /*
@@ -309,10 +394,17 @@ public class JsonSerializationContext extends JsonMappingContext {
 
     private final boolean wrapExceptions;
 
+    private final JsonOutputBuffer.Type outputBufferType;
+
+    private final boolean useNativeStringify;
+
+    private final int sinkChunkSize;
+
     private JsonSerializationContext( boolean useEqualityForObjectId, boolean serializeNulls, boolean writeDatesAsTimestamps, boolean
             writeDateKeysAsTimestamps, boolean indent, boolean wrapRootValue, boolean writeCharArraysAsJsonArrays, boolean
             writeNullMapValues, boolean writeEmptyJsonArrays, boolean orderMapEntriesByKeys, boolean writeSingleElemArraysUnwrapped,
-                                      boolean wrapExceptions ) {
+                                      boolean wrapExceptions, JsonOutputBuffer.Type outputBufferType, boolean useNativeStringify,
+                                      int sinkChunkSize ) {
         this.useEqualityForObjectId = useEqualityForObjectId;
         this.serializeNulls = serializeNulls;
         this.writeDatesAsTimestamps = writeDatesAsTimestamps;
@@ -325,6 +417,9 @@ public class JsonSerializationContext extends JsonMappingContext {
         this.orderMapEntriesByKeys = orderMapEntriesByKeys;
         this.writeSingleElemArraysUnwrapped = writeSingleElemArraysUnwrapped;
         this.wrapExceptions = wrapExceptions;
+        this.outputBufferType = outputBufferType;
+        this.useNativeStringify = useNativeStringify;
+        this.sinkChunkSize = sinkChunkSize;
     }
 
     @Override
@@ -374,6 +469,13 @@ public class JsonSerializationContext extends JsonMappingContext {
         return writeNullMapValues;
     }
 
+    /**
+     * @see Builder#indent(boolean)
+     */
+    public boolean isIndent() {
+        return indent;
+    }
+
     /**
      * @see Builder#writeEmptyJsonArrays(boolean)
      */
@@ -395,8 +497,60 @@ public class JsonSerializationContext extends JsonMappingContext {
         return writeSingleElemArraysUnwrapped;
     }
 
+    /**
+     * @see Builder#outputBufferType(JsonOutputBuffer.Type)
+     */
+    public JsonOutputBuffer.Type getOutputBufferType() {
+        return outputBufferType;
+    }
+
+    /**
+     * @see Builder#useNativeStringify(boolean)
+     */
+    public boolean isUseNativeStringify() {
+        return useNativeStringify;
+    }
+
+    /**
+     * @see Builder#sinkChunkSize(int)
+     */
+    public int getSinkChunkSize() {
+        return sinkChunkSize;
+    }
+
     public JsonWriter newJsonWriter() {
-        JsonWriter writer = new FastJsonWriter( new StringBuilder() );
+        if ( useNativeStringify ) {
+            return newNativeJsonWriter();
+        }
+        return newFastJsonWriter();
+    }
+
+    /**
+     * @param sink the sink receiving the output
+     *
+     * @return a new writer giving its output to the sink in chunks of {@link #getSinkChunkSize()} characters. The native {@code
+     * JSON.stringify} can't produce its output in chunks so this writer is never a {@link NativeJsonWriter}.
+     */
+    public JsonWriter newJsonWriter( JsonSink sink ) {
+        FastJsonWriter writer = new FastJsonWriter( JsonOutputBuffer.sink( sink, sinkChunkSize ) );
+        writer.setLenient( true );
+        if ( indent ) {
+            writer.setIndent( "  " );
+        }
+        return writer;
+    }
+
+    NativeJsonWriter newNativeJsonWriter() {
+        NativeJsonWriter writer = new NativeJsonWriter();
+        writer.setLenient( true );
+        if ( indent ) {
+            writer.setIndent( "  " );
+        }
+        return writer;
+    }
+
+    FastJsonWriter newFastJsonWriter() {
+        FastJsonWriter writer = new FastJsonWriter( JsonOutputBuffer.create( outputBufferType ) );
         writer.setLenient( true );
         if ( indent ) {
             writer.setIndent( "  " );
@@ -475,7 +629,27 @@ public class JsonSerializationContext extends JsonMappingContext {
         }
     }
 
+    /**
+     * Forgets the object ids and generators of the previous write so the context can be used for a new one.
+     */
+    void reset() {
+        if ( null != mapObjectId ) {
+            mapObjectId.clear();
+        }
+        objectToObjectId = null;
+        if ( null != generators ) {
+            generators.clear();
+        }
+    }
+
     public void addObjectId( Object object, ObjectIdSerializer<?> id ) {
+        if ( isNativeIdentity( object ) ) {
+            if ( null == objectToObjectId ) {
+                objectToObjectId = newObjectToObjectId();
+            }
+            putObjectId( objectToObjectId, object, id );
+            return;
+        }
         if ( null == mapObjectId ) {
             if ( useEqualityForObjectId ) {
                 mapObjectId = new HashMap<Object, ObjectIdSerializer<?>>();
@@ -487,12 +661,25 @@ public class JsonSerializationContext extends JsonMappingContext {
     }
 
     public ObjectIdSerializer<?> getObjectId( Object object ) {
+        if ( null != objectToObjectId && isNativeIdentity( object ) ) {
+            return getObjectId( objectToObjectId, object );
+        }
         if ( null != mapObjectId ) {
             return mapObjectId.get( object );
         }
         return null;
     }
 
+    /**
+     * The emulated {@link IdentityHashMap} hashes every object with {@link System#identityHashCode(Object)}. In compiled code, the
+     * ids of the objects compared by identity are kept in a native {@code WeakMap} instead if the browser has one.
+     *
+     * @return true if the id of the object is kept in {@link #objectToObjectId}, false if it is kept in {@link #mapObjectId}
+     */
+    private boolean isNativeIdentity( Object object ) {
+        return !useEqualityForObjectId && WEAK_MAP_SUPPORTED && isJavaScriptObject( object );
+    }
+
     /**
      * Used by generated {@link AbstractBeanJsonSerializer}
      *
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client;
+
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+import com.github.nmorel.gwtjackson.client.stream.impl.FastJsonWriter;
+import com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonReader;
+import com.github.nmorel.gwtjackson.client.stream.impl.NonBufferedJsonReader;
+
+/**
+ * Contexts, reader and writer reused across the calls to {@link ObjectReader#read(String, JsonSession)} and {@link
+ * ObjectWriter#write(Object, JsonSession)}. They are reset before each call instead of being allocated again, which avoids a lot of
+ * garbage when reading or writing many small messages.
+ * <p>A session can be used with any reader, writer or mapper but it is not reentrant : a serializer or deserializer must not use the
+ * session currently using it.</p>
+ *
+ * @author Nicolas Morel
+ */
+public final class JsonSession {
+
+    /**
+     * @return a new session using the default contexts
+     */
+    public static JsonSession create() {
+        return create( JsonDeserializationContext.builder().build(), JsonSerializationContext.builder().build() );
+    }
+
+    /**
+     * @param deserializationContext Context used for the reading process
+     * @param serializationContext Context used for the writing process
+     *
+     * @return a new session using the given contexts
+     */
+    public static JsonSession create( JsonDeserializationContext deserializationContext, JsonSerializationContext
+            serializationContext ) {
+        return new JsonSession( deserializationContext, serializationContext );
+    }
+
+    private final JsonDeserializationContext deserializationContext;
+
+    private final JsonSerializationContext serializationContext;
+
+    private NonBufferedJsonReader reader;
+
+    private FastJsonWriter writer;
+
+    private JsonSession( JsonDeserializationContext deserializationContext, JsonSerializationContext serializationContext ) {
+        this.deserializationContext = deserializationContext;
+        this.serializationContext = serializationContext;
+    }
+
+    public JsonDeserializationContext getDeserializationContext() {
+        return deserializationContext;
+    }
+
+    public JsonSerializationContext getSerializationContext() {
+        return serializationContext;
+    }
+
+    /**
+     * Resets the deserialization context and returns a reader positioned at the beginning of the given input.
+     */
+    JsonReader newJsonReader( String input ) {
+        deserializationContext.reset();
+        if ( deserializationContext.isUseNativeParser() ) {
+            JsonReader nativeReader = NativeJsonReader.parse( input );
+            if ( null != nativeReader ) {
+                nativeReader.setLenient( true );
+                return nativeReader;
+            }
+        }
+        if ( null == reader ) {
+            reader = new NonBufferedJsonReader( input );
+            reader.setLenient( true );
+        } else {
+            reader.reset( input );
+        }
+        return reader;
+    }
+
+    /**
+     * Resets the serialization context and returns an empty writer.
+     */
+    JsonWriter newJsonWriter() {
+        serializationContext.reset();
+        if ( serializationContext.isUseNativeStringify() ) {
+            // the tree is the state of the writer, it can't be reused
+            return serializationContext.newJsonWriter();
+        }
+        if ( null == writer ) {
+            writer = serializationContext.newFastJsonWriter();
+        } else {
+            writer.reset();
+        }
+        return writer;
+    }
+}
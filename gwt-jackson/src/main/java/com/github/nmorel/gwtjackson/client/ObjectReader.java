@@ -16,6 +16,8 @@
 
 package com.github.nmorel.gwtjackson.client;
 
+import java.util.Iterator;
+
 import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
 import com.google.gwt.core.client.GWT;
 
@@ -63,4 +65,109 @@ public interface ObjectReader<T> {
      * @throws JsonDeserializationException if an exception occurs while reading the input
      */
     T read( String input, JsonDeserializationContext ctx ) throws JsonDeserializationException;
+
+    /**
+     * Reads a JSON input into an object, reusing the context and the reader of the given session.
+     *
+     * @param input JSON input to read
+     * @param session Session used for the reading process
+     *
+     * @return the read object
+     * @throws JsonDeserializationException if an exception occurs while reading the input
+     */
+    T read( String input, JsonSession session ) throws JsonDeserializationException;
+
+    /**
+     * Reads a JSON input into an object without blocking the browser. The input is read in time slices scheduled with {@link
+     * com.google.gwt.core.client.Scheduler#scheduleIncremental}, the browser handles its events between two slices.
+     * <p>Only a root {@link java.util.Collection} is split: its elements are read across several slices. Any other root object is read
+     * in a single slice, including its nested collections. A bean or a wrapper holding a large list still blocks the browser for the
+     * whole read. To split such a list, read it as the root value.</p>
+     *
+     * @param input JSON input to read
+     * @param callback the callback receiving the read object or the exception that occurred while reading the input
+     */
+    void readAsync( String input, AsyncReadCallback<T> callback );
+
+    /**
+     * Reads a JSON input into an object without blocking the browser. The input is read in time slices scheduled with {@link
+     * com.google.gwt.core.client.Scheduler#scheduleIncremental}, the browser handles its events between two slices.
+     * <p>Only a root {@link java.util.Collection} is split: its elements are read across several slices. Any other root object is read
+     * in a single slice, including its nested collections. A bean or a wrapper holding a large list still blocks the browser for the
+     * whole read. To split such a list, read it as the root value.</p>
+     *
+     * @param input JSON input to read
+     * @param ctx Context for the full reading process
+     * @param callback the callback receiving the read object or the exception that occurred while reading the input
+     */
+    void readAsync( String input, JsonDeserializationContext ctx, AsyncReadCallback<T> callback );
+
+    /**
+     * Reads a JSON array one element at a time. Each element is read into an object when requested to the returned iterator so the
+     * elements already consumed can be released before the end of the input is read.
+     *
+     * @param input JSON array to read
+     *
+     * @return an iterator over the elements of the array
+     * @throws JsonDeserializationException if an exception occurs while reading the input. The iterator throws it too when an element
+     * can't be read.
+     */
+    Iterator<T> readElements( String input ) throws JsonDeserializationException;
+
+    /**
+     * Reads a JSON array one element at a time. Each element is read into an object when requested to the returned iterator so the
+     * elements already consumed can be released before the end of the input is read.
+     * <p>The root value is not unwrapped, even if {@link JsonDeserializationContext#isUnwrapRootValue()} is enabled.</p>
+     *
+     * @param input JSON array to read
+     * @param ctx Context for the full reading process
+     *
+     * @return an iterator over the elements of the array
+     * @throws JsonDeserializationException if an exception occurs while reading the input. The iterator throws it too when an element
+     * can't be read.
+     */
+    Iterator<T> readElements( String input, JsonDeserializationContext ctx ) throws JsonDeserializationException;
+
+    /**
+     * Creates a reader fed with the successive chunks of a JSON input. The object is given to the callback as soon as its input is
+     * complete.
+     *
+     * @param callback the callback receiving the read object
+     *
+     * @return the reader to feed with the chunks of the input
+     */
+    ChunkedObjectReader<T> newChunkedReader( ChunkedObjectReader.Callback<T> callback );
+
+    /**
+     * Creates a reader fed with the successive chunks of a JSON input. The object is given to the callback as soon as its input is
+     * complete.
+     *
+     * @param callback the callback receiving the read object
+     * @param ctx Context for the full reading process
+     *
+     * @return the reader to feed with the chunks of the input
+     */
+    ChunkedObjectReader<T> newChunkedReader( ChunkedObjectReader.Callback<T> callback, JsonDeserializationContext ctx );
+
+    /**
+     * Creates a reader fed with the successive chunks of a JSON array. Each element of the array is read into an object and given to the
+     * callback as soon as its input is complete.
+     *
+     * @param callback the callback receiving each read element
+     *
+     * @return the reader to feed with the chunks of the input
+     */
+    ChunkedObjectReader<T> newChunkedArrayReader( ChunkedObjectReader.Callback<T> callback );
+
+    /**
+     * Creates a reader fed with the successive chunks of a JSON array. Each element of the array is read into an object and given to the
+     * callback as soon as its input is complete.
+     * <p>The root value is not unwrapped, even if {@link JsonDeserializationContext#isUnwrapRootValue()} is enabled.</p>
+     *
+     * @param callback the callback receiving each read element
+     * @param ctx Context for the full reading process
+     *
+     * @return the reader to feed with the chunks of the input
+     */
+    ChunkedObjectReader<T> newChunkedArrayReader( ChunkedObjectReader.Callback<T> callback, JsonDeserializationContext ctx );
 }
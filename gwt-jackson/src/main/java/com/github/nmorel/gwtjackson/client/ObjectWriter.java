@@ -17,7 +17,9 @@
 package com.github.nmorel.gwtjackson.client;
 
 import com.github.nmorel.gwtjackson.client.exception.JsonSerializationException;
+import com.github.nmorel.gwtjackson.client.stream.JsonSink;
 import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JavaScriptObject;
 
 /**
  * Writes an object to JSON.
@@ -65,4 +67,62 @@ public interface ObjectWriter<T> {
      * @throws JsonSerializationException if an exception occurs while writing the output
      */
     String write( T value, JsonSerializationContext ctx ) throws JsonSerializationException;
+
+    /**
+     * Writes an object to JSON, reusing the context and the writer of the given session.
+     *
+     * @param value Object to write
+     * @param session Session used for the writing process
+     *
+     * @return the JSON output
+     * @throws JsonSerializationException if an exception occurs while writing the output
+     */
+    String write( T value, JsonSession session ) throws JsonSerializationException;
+
+    /**
+     * Writes an object to JSON, giving the output to the sink in chunks as it is written instead of building the whole output.
+     *
+     * @param value Object to write
+     * @param sink Sink receiving the output
+     *
+     * @throws JsonSerializationException if an exception occurs while writing the output
+     */
+    void write( T value, JsonSink sink ) throws JsonSerializationException;
+
+    /**
+     * Writes an object to JSON, giving the output to the sink in chunks as it is written instead of building the whole output.
+     *
+     * @param value Object to write
+     * @param sink Sink receiving the output
+     * @param ctx Context for the full writing process
+     *
+     * @throws JsonSerializationException if an exception occurs while writing the output
+     * @see JsonSerializationContext.Builder#sinkChunkSize(int)
+     */
+    void write( T value, JsonSink sink, JsonSerializationContext ctx ) throws JsonSerializationException;
+
+    /**
+     * Writes an object to a tree of JavaScript objects and arrays, without building the JSON string. The tree can be given directly to
+     * APIs taking structured data like {@code postMessage} or IndexedDB.
+     *
+     * @param value Object to write. It must be written as a JSON object or array.
+     *
+     * @return the JavaScript object or array
+     * @throws JsonSerializationException if an exception occurs while writing the output
+     * @see com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonWriter
+     */
+    JavaScriptObject writeToJavaScriptObject( T value ) throws JsonSerializationException;
+
+    /**
+     * Writes an object to a tree of JavaScript objects and arrays, without building the JSON string. The tree can be given directly to
+     * APIs taking structured data like {@code postMessage} or IndexedDB.
+     *
+     * @param value Object to write. It must be written as a JSON object or array.
+     * @param ctx Context for the full writing process
+     *
+     * @return the JavaScript object or array
+     * @throws JsonSerializationException if an exception occurs while writing the output
+     * @see com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonWriter
+     */
+    JavaScriptObject writeToJavaScriptObject( T value, JsonSerializationContext ctx ) throws JsonSerializationException;
 }
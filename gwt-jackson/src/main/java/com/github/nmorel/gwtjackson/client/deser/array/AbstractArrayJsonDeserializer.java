@@ -25,6 +25,7 @@ import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
 import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.UnsafeNativeLong;
 
 /**
  * Base implementation of {@link JsonDeserializer} for array.
@@ -54,6 +55,41 @@ public abstract class AbstractArrayJsonDeserializer<T> extends JsonDeserializer<
 
     protected abstract T doDeserializeSingleArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params );
 
+    /**
+     * Appends a value at the end of an array. Only in compiled code where the Java arrays are JavaScript arrays : an empty array
+     * created with the right type grows while the elements are read, we don't need to know the length of the array before creating it.
+     * <p>The array keeps its runtime type but the native push bypasses the array store check of a Java assignment. The value must be of the
+     * component type of the array, it is the case for the values returned by the element deserializer.</p>
+     *
+     * @param array the array
+     * @param value the value to append
+     */
+    protected static native void push( Object array, Object value ) /*-{
+        array.push(value);
+    }-*/;
+
+    /**
+     * Same as {@link #push(Object, Object)} for the arrays of numbers and characters, the value is not boxed.
+     */
+    protected static native void push( Object array, double value ) /*-{
+        array.push(value);
+    }-*/;
+
+    /**
+     * Same as {@link #push(Object, Object)} for the arrays of booleans, the value is not boxed.
+     */
+    protected static native void push( Object array, boolean value ) /*-{
+        array.push(value);
+    }-*/;
+
+    /**
+     * Same as {@link #push(Object, Object)} for the arrays of longs, the value keeps its emulated representation.
+     */
+    @UnsafeNativeLong
+    protected static native void push( long[] array, long value ) /*-{
+        array.push(value);
+    }-*/;
+
     /**
      * Deserializes the array into a {@link List}. We need the length of the array before creating it.
      *
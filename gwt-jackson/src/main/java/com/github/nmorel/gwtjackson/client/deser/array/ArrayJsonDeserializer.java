@@ -23,6 +23,8 @@ import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.GWT;
 
 /**
  * Default {@link JsonDeserializer} implementation for array.
@@ -68,8 +70,19 @@ public class ArrayJsonDeserializer<T> extends AbstractArrayJsonDeserializer<T[]>
 
     @Override
     public T[] doDeserializeArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
-        List<T> list = deserializeIntoList( reader, ctx, deserializer, params );
-        return list.toArray( arrayCreator.create( list.size() ) );
+        if ( !GWT.isScript() ) {
+            List<T> list = deserializeIntoList( reader, ctx, deserializer, params );
+            return list.toArray( arrayCreator.create( list.size() ) );
+        }
+
+        // no array store check on push, the deserializer only returns values of type T
+        T[] array = arrayCreator.create( 0 );
+        reader.beginArray();
+        while ( JsonToken.END_ARRAY != reader.peek() ) {
+            push( array, deserializer.deserialize( reader, ctx, params ) );
+        }
+        reader.endArray();
+        return array;
     }
 
     @Override
@@ -23,6 +23,8 @@ import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.deser.BooleanJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.GWT;
 
 /**
  * Default {@link JsonDeserializer} implementation for array of boolean.
@@ -44,6 +46,10 @@ public class PrimitiveBooleanArrayJsonDeserializer extends AbstractArrayJsonDese
 
     @Override
     public boolean[] doDeserializeArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        if ( GWT.isScript() ) {
+            return doDeserializeIntoArray( reader, ctx, params );
+        }
+
         List<Boolean> list = deserializeIntoList( reader, ctx, BooleanJsonDeserializer.getInstance(), params );
 
         boolean[] result = new boolean[list.size()];
@@ -57,6 +63,20 @@ public class PrimitiveBooleanArrayJsonDeserializer extends AbstractArrayJsonDese
         return result;
     }
 
+    /**
+     * Deserializes the elements directly into an array growing while they are read. Only in compiled code.
+     */
+    private boolean[] doDeserializeIntoArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        boolean[] result = new boolean[0];
+        reader.beginArray();
+        while ( JsonToken.END_ARRAY != reader.peek() ) {
+            Boolean value = BooleanJsonDeserializer.getInstance().deserialize( reader, ctx, params );
+            push( result, null == value ? false : value );
+        }
+        reader.endArray();
+        return result;
+    }
+
     @Override
     protected boolean[] doDeserializeSingleArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
         return new boolean[]{BooleanJsonDeserializer.getInstance().deserialize( reader, ctx, params )};
@@ -25,6 +25,7 @@ import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.Byte
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
 import com.github.nmorel.gwtjackson.client.stream.JsonToken;
 import com.github.nmorel.gwtjackson.client.utils.Base64Utils;
+import com.google.gwt.core.client.GWT;
 
 /**
  * Default {@link JsonDeserializer} implementation for array of byte.
@@ -46,6 +47,10 @@ public class PrimitiveByteArrayJsonDeserializer extends AbstractArrayJsonDeseria
 
     @Override
     public byte[] doDeserializeArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        if ( GWT.isScript() ) {
+            return doDeserializeIntoArray( reader, ctx, params );
+        }
+
         List<Byte> list = deserializeIntoList( reader, ctx, ByteJsonDeserializer.getInstance(), params );
 
         byte[] result = new byte[list.size()];
@@ -70,6 +75,20 @@ public class PrimitiveByteArrayJsonDeserializer extends AbstractArrayJsonDeseria
         }
     }
 
+    /**
+     * Deserializes the elements directly into an array growing while they are read. Only in compiled code.
+     */
+    private byte[] doDeserializeIntoArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        byte[] result = new byte[0];
+        reader.beginArray();
+        while ( JsonToken.END_ARRAY != reader.peek() ) {
+            Byte value = ByteJsonDeserializer.getInstance().deserialize( reader, ctx, params );
+            push( result, null == value ? 0 : value );
+        }
+        reader.endArray();
+        return result;
+    }
+
     @Override
     protected byte[] doDeserializeSingleArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
         return new byte[]{ByteJsonDeserializer.getInstance().deserialize( reader, ctx, params )};
@@ -24,6 +24,7 @@ import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.deser.CharacterJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
 import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.GWT;
 
 /**
  * Default {@link JsonDeserializer} implementation for array of char.
@@ -45,6 +46,10 @@ public class PrimitiveCharacterArrayJsonDeserializer extends AbstractArrayJsonDe
 
     @Override
     public char[] doDeserializeArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        if ( GWT.isScript() ) {
+            return doDeserializeIntoArray( reader, ctx, params );
+        }
+
         List<Character> list = deserializeIntoList( reader, ctx, CharacterJsonDeserializer.getInstance(), params );
 
         char[] result = new char[list.size()];
@@ -69,6 +74,20 @@ public class PrimitiveCharacterArrayJsonDeserializer extends AbstractArrayJsonDe
         }
     }
 
+    /**
+     * Deserializes the elements directly into an array growing while they are read. Only in compiled code.
+     */
+    private char[] doDeserializeIntoArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        char[] result = new char[0];
+        reader.beginArray();
+        while ( JsonToken.END_ARRAY != reader.peek() ) {
+            Character value = CharacterJsonDeserializer.getInstance().deserialize( reader, ctx, params );
+            push( result, null == value ? 0 : value );
+        }
+        reader.endArray();
+        return result;
+    }
+
     @Override
     protected char[] doDeserializeSingleArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
         return new char[]{CharacterJsonDeserializer.getInstance().deserialize( reader, ctx, params )};
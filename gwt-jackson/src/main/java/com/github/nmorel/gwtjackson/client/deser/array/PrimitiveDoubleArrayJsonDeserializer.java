@@ -23,6 +23,8 @@ import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.DoubleJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.GWT;
 
 /**
  * Default {@link JsonDeserializer} implementation for array of double.
@@ -44,6 +46,10 @@ public class PrimitiveDoubleArrayJsonDeserializer extends AbstractArrayJsonDeser
 
     @Override
     public double[] doDeserializeArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        if ( GWT.isScript() ) {
+            return doDeserializeIntoArray( reader, ctx, params );
+        }
+
         List<Double> list = deserializeIntoList( reader, ctx, DoubleJsonDeserializer.getInstance(), params );
 
         double[] result = new double[list.size()];
@@ -57,6 +63,24 @@ public class PrimitiveDoubleArrayJsonDeserializer extends AbstractArrayJsonDeser
         return result;
     }
 
+    /**
+     * Deserializes the elements directly into an array growing while they are read. Only in compiled code.
+     */
+    private double[] doDeserializeIntoArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        double[] result = new double[0];
+        reader.beginArray();
+        while ( JsonToken.END_ARRAY != reader.peek() ) {
+            if ( JsonToken.NULL == reader.peek() ) {
+                reader.skipValue();
+                push( result, 0 );
+            } else {
+                push( result, reader.nextDouble() );
+            }
+        }
+        reader.endArray();
+        return result;
+    }
+
     @Override
     protected double[] doDeserializeSingleArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
         return new double[]{DoubleJsonDeserializer.getInstance().deserialize( reader, ctx, params )};
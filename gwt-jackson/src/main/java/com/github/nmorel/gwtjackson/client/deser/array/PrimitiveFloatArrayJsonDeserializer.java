@@ -23,6 +23,8 @@ import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.FloatJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.GWT;
 
 /**
  * Default {@link JsonDeserializer} implementation for array of float.
@@ -44,6 +46,10 @@ public class PrimitiveFloatArrayJsonDeserializer extends AbstractArrayJsonDeseri
 
     @Override
     public float[] doDeserializeArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        if ( GWT.isScript() ) {
+            return doDeserializeIntoArray( reader, ctx, params );
+        }
+
         List<Float> list = deserializeIntoList( reader, ctx, FloatJsonDeserializer.getInstance(), params );
 
         float[] result = new float[list.size()];
@@ -57,6 +63,24 @@ public class PrimitiveFloatArrayJsonDeserializer extends AbstractArrayJsonDeseri
         return result;
     }
 
+    /**
+     * Deserializes the elements directly into an array growing while they are read. Only in compiled code.
+     */
+    private float[] doDeserializeIntoArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        float[] result = new float[0];
+        reader.beginArray();
+        while ( JsonToken.END_ARRAY != reader.peek() ) {
+            if ( JsonToken.NULL == reader.peek() ) {
+                reader.skipValue();
+                push( result, 0 );
+            } else {
+                push( result, Float.parseFloat( reader.nextString() ) );
+            }
+        }
+        reader.endArray();
+        return result;
+    }
+
     @Override
     protected float[] doDeserializeSingleArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
         return new float[]{FloatJsonDeserializer.getInstance().deserialize( reader, ctx, params )};
@@ -23,6 +23,8 @@ import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.ShortJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.GWT;
 
 /**
  * Default {@link JsonDeserializer} implementation for array of short.
@@ -44,6 +46,10 @@ public class PrimitiveShortArrayJsonDeserializer extends AbstractArrayJsonDeseri
 
     @Override
     public short[] doDeserializeArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        if ( GWT.isScript() ) {
+            return doDeserializeIntoArray( reader, ctx, params );
+        }
+
         List<Short> list = deserializeIntoList( reader, ctx, ShortJsonDeserializer.getInstance(), params );
 
         short[] result = new short[list.size()];
@@ -57,6 +63,20 @@ public class PrimitiveShortArrayJsonDeserializer extends AbstractArrayJsonDeseri
         return result;
     }
 
+    /**
+     * Deserializes the elements directly into an array growing while they are read. Only in compiled code.
+     */
+    private short[] doDeserializeIntoArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        short[] result = new short[0];
+        reader.beginArray();
+        while ( JsonToken.END_ARRAY != reader.peek() ) {
+            Short value = ShortJsonDeserializer.getInstance().deserialize( reader, ctx, params );
+            push( result, null == value ? 0 : value );
+        }
+        reader.endArray();
+        return result;
+    }
+
     @Override
     protected short[] doDeserializeSingleArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
         return new short[]{ShortJsonDeserializer.getInstance().deserialize( reader, ctx, params )};
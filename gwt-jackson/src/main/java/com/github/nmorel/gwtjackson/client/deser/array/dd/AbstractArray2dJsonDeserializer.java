@@ -33,6 +33,32 @@ import com.github.nmorel.gwtjackson.client.stream.JsonToken;
  */
 public abstract class AbstractArray2dJsonDeserializer<T> extends JsonDeserializer<T> {
 
+    /**
+     * Appends a value at the end of an array. Only in compiled code where the Java arrays are JavaScript arrays : an empty array
+     * created with the right type grows while the elements are read, we don't need to know the length of the arrays before creating
+     * them.
+     *
+     * @param array the array
+     * @param value the value to append
+     */
+    protected static native void push( Object array, Object value ) /*-{
+        array.push(value);
+    }-*/;
+
+    /**
+     * Same as {@link #push(Object, Object)} for the arrays of numbers, the value is not boxed.
+     */
+    protected static native void push( Object array, double value ) /*-{
+        array.push(value);
+    }-*/;
+
+    /**
+     * Same as {@link #push(Object, Object)} for the arrays of booleans, the value is not boxed.
+     */
+    protected static native void push( Object array, boolean value ) /*-{
+        array.push(value);
+    }-*/;
+
     /**
      * Deserializes the array into a {@link List}. We need the length of the array before creating it.
      *
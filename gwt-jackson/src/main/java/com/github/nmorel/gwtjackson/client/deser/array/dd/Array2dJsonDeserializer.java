@@ -23,6 +23,8 @@ import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.GWT;
 
 /**
  * Default {@link JsonDeserializer} implementation for 2D array.
@@ -68,6 +70,10 @@ public class Array2dJsonDeserializer<T> extends AbstractArray2dJsonDeserializer<
 
     @Override
     protected T[][] doDeserialize( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        if ( GWT.isScript() ) {
+            return doDeserializeIntoArray( reader, ctx, params );
+        }
+
         List<List<T>> list = deserializeIntoList( reader, ctx, deserializer, params );
 
         if ( list.isEmpty() ) {
@@ -89,6 +95,26 @@ public class Array2dJsonDeserializer<T> extends AbstractArray2dJsonDeserializer<
         return array;
     }
 
+    /**
+     * Deserializes the rows directly into arrays growing while the elements are read. Only in compiled code.
+     */
+    private T[][] doDeserializeIntoArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        T[][] array = array2dCreator.create( 0, 0 );
+        reader.beginArray();
+        while ( JsonToken.END_ARRAY != reader.peek() ) {
+            // the only way to get an empty row of the right type
+            T[] row = array2dCreator.create( 1, 0 )[0];
+            reader.beginArray();
+            while ( JsonToken.END_ARRAY != reader.peek() ) {
+                push( row, deserializer.deserialize( reader, ctx, params ) );
+            }
+            reader.endArray();
+            push( array, row );
+        }
+        reader.endArray();
+        return array;
+    }
+
     @Override
     public void setBackReference( String referenceName, Object reference, T[][] value, JsonDeserializationContext ctx ) {
         if ( null != value && value.length > 0 ) {
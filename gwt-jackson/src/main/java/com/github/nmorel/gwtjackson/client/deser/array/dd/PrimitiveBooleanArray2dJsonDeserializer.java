@@ -23,6 +23,8 @@ import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.deser.BooleanJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.GWT;
 
 /**
  * Default {@link JsonDeserializer} implementation for 2D array of boolean.
@@ -44,6 +46,10 @@ public class PrimitiveBooleanArray2dJsonDeserializer extends AbstractArray2dJson
 
     @Override
     public boolean[][] doDeserialize( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        if ( GWT.isScript() ) {
+            return doDeserializeIntoArray( reader, ctx, params );
+        }
+
         List<List<Boolean>> list = deserializeIntoList( reader, ctx, BooleanJsonDeserializer.getInstance(), params );
 
         if ( list.isEmpty() ) {
@@ -71,4 +77,24 @@ public class PrimitiveBooleanArray2dJsonDeserializer extends AbstractArray2dJson
         }
         return array;
     }
+
+    /**
+     * Deserializes the rows directly into arrays growing while the elements are read. Only in compiled code.
+     */
+    private boolean[][] doDeserializeIntoArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        boolean[][] array = new boolean[0][];
+        reader.beginArray();
+        while ( JsonToken.END_ARRAY != reader.peek() ) {
+            boolean[] row = new boolean[0];
+            reader.beginArray();
+            while ( JsonToken.END_ARRAY != reader.peek() ) {
+                Boolean value = BooleanJsonDeserializer.getInstance().deserialize( reader, ctx, params );
+                push( row, null == value ? false : value );
+            }
+            reader.endArray();
+            push( array, row );
+        }
+        reader.endArray();
+        return array;
+    }
 }
@@ -23,6 +23,8 @@ import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.DoubleJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.GWT;
 
 /**
  * Default {@link JsonDeserializer} implementation for 2D array of double.
@@ -44,6 +46,10 @@ public class PrimitiveDoubleArray2dJsonDeserializer extends AbstractArray2dJsonD
 
     @Override
     public double[][] doDeserialize( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        if ( GWT.isScript() ) {
+            return doDeserializeIntoArray( reader, ctx, params );
+        }
+
         List<List<Double>> list = deserializeIntoList( reader, ctx, DoubleJsonDeserializer.getInstance(), params );
 
         if ( list.isEmpty() ) {
@@ -71,4 +77,24 @@ public class PrimitiveDoubleArray2dJsonDeserializer extends AbstractArray2dJsonD
         }
         return array;
     }
+
+    /**
+     * Deserializes the rows directly into arrays growing while the elements are read. Only in compiled code.
+     */
+    private double[][] doDeserializeIntoArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        double[][] array = new double[0][];
+        reader.beginArray();
+        while ( JsonToken.END_ARRAY != reader.peek() ) {
+            double[] row = new double[0];
+            reader.beginArray();
+            while ( JsonToken.END_ARRAY != reader.peek() ) {
+                Double value = DoubleJsonDeserializer.getInstance().deserialize( reader, ctx, params );
+                push( row, null == value ? 0 : value );
+            }
+            reader.endArray();
+            push( array, row );
+        }
+        reader.endArray();
+        return array;
+    }
 }
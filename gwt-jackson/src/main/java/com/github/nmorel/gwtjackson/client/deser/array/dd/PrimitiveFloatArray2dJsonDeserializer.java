@@ -23,6 +23,8 @@ import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.FloatJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.GWT;
 
 /**
  * Default {@link JsonDeserializer} implementation for 2D array of float.
@@ -44,6 +46,10 @@ public class PrimitiveFloatArray2dJsonDeserializer extends AbstractArray2dJsonDe
 
     @Override
     public float[][] doDeserialize( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        if ( GWT.isScript() ) {
+            return doDeserializeIntoArray( reader, ctx, params );
+        }
+
         List<List<Float>> list = deserializeIntoList( reader, ctx, FloatJsonDeserializer.getInstance(), params );
 
         if ( list.isEmpty() ) {
@@ -71,4 +77,24 @@ public class PrimitiveFloatArray2dJsonDeserializer extends AbstractArray2dJsonDe
         }
         return array;
     }
+
+    /**
+     * Deserializes the rows directly into arrays growing while the elements are read. Only in compiled code.
+     */
+    private float[][] doDeserializeIntoArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        float[][] array = new float[0][];
+        reader.beginArray();
+        while ( JsonToken.END_ARRAY != reader.peek() ) {
+            float[] row = new float[0];
+            reader.beginArray();
+            while ( JsonToken.END_ARRAY != reader.peek() ) {
+                Float value = FloatJsonDeserializer.getInstance().deserialize( reader, ctx, params );
+                push( row, null == value ? 0 : value );
+            }
+            reader.endArray();
+            push( array, row );
+        }
+        reader.endArray();
+        return array;
+    }
 }
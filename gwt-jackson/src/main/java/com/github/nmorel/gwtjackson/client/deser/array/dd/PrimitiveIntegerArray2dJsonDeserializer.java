@@ -23,6 +23,8 @@ import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.IntegerJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.GWT;
 
 /**
  * Default {@link JsonDeserializer} implementation for 2D array of int.
@@ -44,6 +46,10 @@ public class PrimitiveIntegerArray2dJsonDeserializer extends AbstractArray2dJson
 
     @Override
     public int[][] doDeserialize( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        if ( GWT.isScript() ) {
+            return doDeserializeIntoArray( reader, ctx, params );
+        }
+
         List<List<Integer>> list = deserializeIntoList( reader, ctx, IntegerJsonDeserializer.getInstance(), params );
 
         if ( list.isEmpty() ) {
@@ -71,4 +77,24 @@ public class PrimitiveIntegerArray2dJsonDeserializer extends AbstractArray2dJson
         }
         return array;
     }
+
+    /**
+     * Deserializes the rows directly into arrays growing while the elements are read. Only in compiled code.
+     */
+    private int[][] doDeserializeIntoArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        int[][] array = new int[0][];
+        reader.beginArray();
+        while ( JsonToken.END_ARRAY != reader.peek() ) {
+            int[] row = new int[0];
+            reader.beginArray();
+            while ( JsonToken.END_ARRAY != reader.peek() ) {
+                Integer value = IntegerJsonDeserializer.getInstance().deserialize( reader, ctx, params );
+                push( row, null == value ? 0 : value );
+            }
+            reader.endArray();
+            push( array, row );
+        }
+        reader.endArray();
+        return array;
+    }
 }
@@ -23,6 +23,8 @@ import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.ShortJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.GWT;
 
 /**
  * Default {@link JsonDeserializer} implementation for 2D array of short.
@@ -44,6 +46,10 @@ public class PrimitiveShortArray2dJsonDeserializer extends AbstractArray2dJsonDe
 
     @Override
     public short[][] doDeserialize( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        if ( GWT.isScript() ) {
+            return doDeserializeIntoArray( reader, ctx, params );
+        }
+
         List<List<Short>> list = deserializeIntoList( reader, ctx, ShortJsonDeserializer.getInstance(), params );
 
         if ( list.isEmpty() ) {
@@ -71,4 +77,24 @@ public class PrimitiveShortArray2dJsonDeserializer extends AbstractArray2dJsonDe
         }
         return array;
     }
+
+    /**
+     * Deserializes the rows directly into arrays growing while the elements are read. Only in compiled code.
+     */
+    private short[][] doDeserializeIntoArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        short[][] array = new short[0][];
+        reader.beginArray();
+        while ( JsonToken.END_ARRAY != reader.peek() ) {
+            short[] row = new short[0];
+            reader.beginArray();
+            while ( JsonToken.END_ARRAY != reader.peek() ) {
+                Short value = ShortJsonDeserializer.getInstance().deserialize( reader, ctx, params );
+                push( row, null == value ? 0 : value );
+            }
+            reader.endArray();
+            push( array, row );
+        }
+        reader.endArray();
+        return array;
+    }
 }
@@ -16,11 +16,12 @@
 
 package com.github.nmorel.gwtjackson.client.deser.bean;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonAnySetter;
@@ -45,11 +46,29 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
 
     private final SimpleStringMap<BeanPropertyDeserializer<T, ?>> deserializers;
 
+    private final BeanPropertyDeserializer<T, ?>[] indexedDeserializers;
+
+    private final String[] indexedPropertyNames;
+
     private final SimpleStringMap<BackReferenceProperty<T, ?>> backReferenceDeserializers;
 
     private final Set<String> defaultIgnoredProperties;
 
-    private final Set<String> requiredProperties;
+    /**
+     * Names of the required properties. While reading a bean, the property at index {@code i} is tracked by the bit {@code i} of an
+     * int for the 32 first properties and by the bit {@code i % 32} of the int {@code i / 32 - 1} of an array for the others.
+     */
+    private final String[] requiredPropertyNames;
+
+    /**
+     * Index of each required property in {@link #requiredPropertyNames}
+     */
+    private final SimpleStringMap<Integer> requiredPropertyIndexes;
+
+    /**
+     * Index in {@link #requiredPropertyNames} of each property of {@link #indexedPropertyNames} or -1 if the property is not required
+     */
+    private final int[] indexedRequiredPropertyIndexes;
 
     private final IdentityDeserializationInfo<T> defaultIdentityInfo;
 
@@ -59,12 +78,43 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
 
     private final AnySetterDeserializer<T, ?> anySetterDeserializer;
 
+    /**
+     * Ignored properties of the last parameters seen by {@link #getIgnoredProperties(JsonDeserializerParameters)}
+     */
+    private Set<String> cachedParamsIgnoredProperties;
+
+    /**
+     * {@link #cachedParamsIgnoredProperties} merged with {@link #defaultIgnoredProperties}
+     */
+    private Set<String> cachedIgnoredProperties;
+
+    /**
+     * Type info used to fill {@link #typeInfoToDeserializer}
+     */
+    private TypeDeserializationInfo<T> resolvedTypeInfo;
+
+    /**
+     * Deserializers already resolved for a type information of {@link #resolvedTypeInfo}
+     */
+    private SimpleStringMap<InternalDeserializer<T, ? extends JsonDeserializer<T>>> typeInfoToDeserializer;
+
     protected AbstractBeanJsonDeserializer() {
         this.instanceBuilder = initInstanceBuilder();
         this.deserializers = initDeserializers();
+        this.indexedDeserializers = initIndexedDeserializers();
+        this.indexedPropertyNames = initIndexedPropertyNames();
         this.backReferenceDeserializers = initBackReferenceDeserializers();
         this.defaultIgnoredProperties = initIgnoredProperties();
-        this.requiredProperties = initRequiredProperties();
+        this.requiredPropertyNames = initRequiredProperties().toArray( new String[0] );
+        this.requiredPropertyIndexes = SimpleStringMap.createObject().cast();
+        for ( int i = 0; i < requiredPropertyNames.length; i++ ) {
+            requiredPropertyIndexes.put( requiredPropertyNames[i], i );
+        }
+        this.indexedRequiredPropertyIndexes = null == indexedPropertyNames ? null : new int[indexedPropertyNames.length];
+        for ( int i = 0; null != indexedPropertyNames && i < indexedPropertyNames.length; i++ ) {
+            Integer requiredIndex = requiredPropertyIndexes.get( indexedPropertyNames[i] );
+            indexedRequiredPropertyIndexes[i] = null == requiredIndex ? -1 : requiredIndex;
+        }
         this.defaultIdentityInfo = initIdentityInfo();
         this.defaultTypeInfo = initTypeInfo();
         this.subtypeClassToDeserializer = initMapSubtypeClassToDeserializer();
@@ -80,12 +130,43 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
 
     /**
      * Initialize the {@link SimpleStringMap} containing the property deserializers. Returns an empty map if there are no properties to
-     * deserialize.
+     * deserialize. Not used if {@link #initIndexedDeserializers()} returns the deserializers.
      */
     protected SimpleStringMap<BeanPropertyDeserializer<T, ?>> initDeserializers() {
         return SimpleStringMap.createObject().cast();
     }
 
+    /**
+     * Initialize the array containing the property deserializers, in the order of the indexes returned by {@link
+     * #indexOfProperty(String)}. Returns null if the properties are not dispatched by index, {@link #initDeserializers()} is used
+     * instead.
+     */
+    protected BeanPropertyDeserializer<T, ?>[] initIndexedDeserializers() {
+        return null;
+    }
+
+    /**
+     * Initialize the array containing the names of the properties, in the order of the array returned by {@link
+     * #initIndexedDeserializers()}. It is the order the properties are serialized in so, while reading a property, we first check if
+     * it is the one following the previous property. Returns null if the properties are not dispatched by index.
+     */
+    protected String[] initIndexedPropertyNames() {
+        return null;
+    }
+
+    /**
+     * Returns the index of the property's deserializer in the array returned by {@link #initIndexedDeserializers()}. The generated
+     * deserializers implement it with a switch on the length and the characters of the known property names so we avoid a map lookup for
+     * each property read.
+     *
+     * @param propertyName name of the property
+     *
+     * @return the index of the property or -1 if the property is unknown
+     */
+    protected int indexOfProperty( String propertyName ) {
+        return -1;
+    }
+
     /**
      * Initialize the {@link SimpleStringMap} containing the back reference deserializers. Returns an empty map if there are no back
      * reference on the bean.
@@ -160,7 +241,7 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         if ( null != identityInfo && !JsonToken.BEGIN_OBJECT.equals( token ) && !JsonToken.BEGIN_ARRAY.equals( token ) ) {
             Object id;
             if ( identityInfo.isProperty() ) {
-                HasDeserializerAndParameters propertyDeserializer = deserializers.get( identityInfo.getPropertyName() );
+                HasDeserializerAndParameters propertyDeserializer = findPropertyDeserializer( identityInfo.getPropertyName() );
                 if ( null == propertyDeserializer ) {
                     propertyDeserializer = instanceBuilder.getParametersDeserializer().get( identityInfo.getPropertyName() );
                 }
@@ -168,7 +249,7 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
             } else {
                 id = identityInfo.readId( reader, ctx );
             }
-            Object instance = ctx.getObjectWithId( identityInfo.newIdKey( id ) );
+            Object instance = ctx.getObjectWithId( identityInfo, id );
             if ( null == instance ) {
                 throw ctx.traceError( "Cannot find an object with id " + id, reader );
             }
@@ -191,7 +272,7 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
                 case PROPERTY:
                     // the type info is the first property of the object
                     reader.beginObject();
-                    Map<String, String> bufferedProperties = null;
+                    BufferedProperties bufferedProperties = null;
                     String typeInfoProperty = null;
                     while ( JsonToken.NAME.equals( reader.peek() ) ) {
                         String name = reader.nextName();
@@ -201,9 +282,9 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
                             break;
                         } else {
                             if ( null == bufferedProperties ) {
-                                bufferedProperties = new HashMap<String, String>();
+                                bufferedProperties = new BufferedProperties( reader );
                             }
-                            bufferedProperties.put( name, reader.nextValue() );
+                            bufferedProperties.put( name, reader );
                         }
                     }
                     if ( null == typeInfoProperty ) {
@@ -260,6 +341,28 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         return result;
     }
 
+    /**
+     * Returns the properties to ignore with the given parameters. The merged set is kept for the next call so the elements of a
+     * collection, all deserialized with the same parameters, don't build it again.
+     *
+     * @param params parameters of the deserialization
+     *
+     * @return the default ignored properties and the ignored properties of the parameters
+     */
+    private Set<String> getIgnoredProperties( JsonDeserializerParameters params ) {
+        Set<String> paramsIgnoredProperties = params.getIgnoredProperties();
+        if ( null == paramsIgnoredProperties ) {
+            return defaultIgnoredProperties;
+        }
+        if ( paramsIgnoredProperties != cachedParamsIgnoredProperties ) {
+            Set<String> ignoredProperties = new HashSet<String>( defaultIgnoredProperties );
+            ignoredProperties.addAll( paramsIgnoredProperties );
+            cachedIgnoredProperties = ignoredProperties;
+            cachedParamsIgnoredProperties = paramsIgnoredProperties;
+        }
+        return cachedIgnoredProperties;
+    }
+
     /**
      * Deserializes all the properties of the bean. The {@link JsonReader} must be in a json object.
      *
@@ -271,19 +374,14 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
     @Override
     public final T deserializeInline( final JsonReader reader, final JsonDeserializationContext ctx, JsonDeserializerParameters params,
                                       IdentityDeserializationInfo identityInfo, TypeDeserializationInfo typeInfo, String type,
-                                      Map<String, String> bufferedProperties ) {
+                                      BufferedProperties bufferedProperties ) {
         final boolean ignoreUnknown = params.isIgnoreUnknown() || isDefaultIgnoreUnknown();
-        final Set<String> ignoredProperties;
-        if ( null == params.getIgnoredProperties() ) {
-            ignoredProperties = defaultIgnoredProperties;
-        } else {
-            ignoredProperties = new HashSet<String>( defaultIgnoredProperties );
-            ignoredProperties.addAll( params.getIgnoredProperties() );
-        }
+        final Set<String> ignoredProperties = getIgnoredProperties( params );
 
-        // we will remove the properties read from this list and check at the end it's empty
-        Set<String> requiredPropertiesLeft = requiredProperties.isEmpty() ? Collections
-                .<String>emptySet() : new HashSet<String>( requiredProperties );
+        // we will mark the required properties read and check at the end they are all marked
+        final boolean hasRequiredProperties = requiredPropertyNames.length > 0;
+        int requiredPropertiesRead = 0;
+        int[] moreRequiredPropertiesRead = requiredPropertyNames.length > 32 ? new int[(requiredPropertyNames.length - 1) >> 5] : null;
 
         // we first look for identity. It can also buffer properties if it is not in current reader position.
         Object id = null;
@@ -291,17 +389,12 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         if ( null != identityInfo ) {
             JsonReader identityReader = null;
 
-            // we look if it has not been already buffered
-            String propertyValue = null;
-
             // we fisrt look if the identity property has not been read already
             if ( null != bufferedProperties ) {
-                propertyValue = bufferedProperties.remove( identityInfo.getPropertyName() );
+                identityReader = bufferedProperties.remove( identityInfo.getPropertyName() );
             }
 
-            if ( null != propertyValue ) {
-                identityReader = ctx.newJsonReader( propertyValue );
-            } else {
+            if ( null == identityReader ) {
                 // we search for the identity property
                 while ( JsonToken.NAME.equals( reader.peek() ) ) {
                     String name = reader.nextName();
@@ -316,16 +409,16 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
                         break;
                     } else {
                         if ( null == bufferedProperties ) {
-                            bufferedProperties = new HashMap<String, String>();
+                            bufferedProperties = new BufferedProperties( reader );
                         }
-                        bufferedProperties.put( name, reader.nextValue() );
+                        bufferedProperties.put( name, reader );
                     }
                 }
             }
 
             if ( null != identityReader ) {
                 if ( identityInfo.isProperty() ) {
-                    HasDeserializerAndParameters propertyDeserializer = deserializers.get( identityInfo.getPropertyName() );
+                    HasDeserializerAndParameters propertyDeserializer = findPropertyDeserializer( identityInfo.getPropertyName() );
                     if ( null == propertyDeserializer ) {
                         // the identity property is defined in constructor
                         propertyDeserializer = instanceBuilder.getParametersDeserializer().get( identityInfo.getPropertyName() );
@@ -351,16 +444,17 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         // we save the instance if we have an id
         if ( null != id ) {
             if ( identityInfo.isProperty() ) {
-                BeanPropertyDeserializer propertyDeserializer = deserializers.get( identityInfo.getPropertyName() );
+                BeanPropertyDeserializer propertyDeserializer = findPropertyDeserializer( identityInfo.getPropertyName() );
                 if ( null != propertyDeserializer ) {
                     propertyDeserializer.setValue( bean, id, ctx );
                 }
             }
-            ctx.addObjectId( identityInfo.newIdKey( id ), bean );
+            ctx.addObjectId( identityInfo, id, bean );
         }
 
         // we flush any buffered properties
-        flushBufferedProperties( bean, bufferedProperties, requiredPropertiesLeft, ctx, ignoreUnknown, ignoredProperties );
+        requiredPropertiesRead = flushBufferedProperties( bean, bufferedProperties, requiredPropertiesRead, moreRequiredPropertiesRead,
+                ctx, ignoreUnknown, ignoredProperties );
 
         // in case there is a property that need the type info
         if ( null != typeInfo && null != typeInfo.getPropertyName() && null != type ) {
@@ -370,17 +464,44 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
             }
         }
 
+        // index of the property expected after the previous one
+        int expectedIndex = 0;
         while ( JsonToken.NAME.equals( reader.peek() ) ) {
-            String propertyName = reader.nextName();
+            String propertyName;
+            int index = -1;
+            if ( null != indexedPropertyNames && expectedIndex < indexedPropertyNames.length ) {
+                String expectedName = indexedPropertyNames[expectedIndex];
+                propertyName = reader.nextName( expectedName );
+                if ( propertyName == expectedName ) {
+                    index = expectedIndex;
+                } else {
+                    index = indexOfProperty( propertyName );
+                }
+                if ( index >= 0 ) {
+                    expectedIndex = index + 1;
+                }
+            } else {
+                propertyName = reader.nextName();
+            }
 
-            requiredPropertiesLeft.remove( propertyName );
+            if ( hasRequiredProperties ) {
+                int requiredIndex = index >= 0 ? indexedRequiredPropertyIndexes[index] : requiredIndexOf( propertyName );
+                if ( requiredIndex >= 0 ) {
+                    requiredPropertiesRead = markRequiredPropertyRead( requiredIndex, requiredPropertiesRead, moreRequiredPropertiesRead );
+                }
+            }
 
             if ( ignoredProperties.contains( propertyName ) ) {
                 reader.skipValue();
                 continue;
             }
 
-            BeanPropertyDeserializer<T, ?> property = getPropertyDeserializer( propertyName, ctx, ignoreUnknown );
+            BeanPropertyDeserializer<T, ?> property;
+            if ( index >= 0 ) {
+                property = indexedDeserializers[index];
+            } else {
+                property = getPropertyDeserializer( propertyName, ctx, ignoreUnknown );
+            }
             if ( null != property ) {
                 property.deserialize( reader, bean, ctx );
             } else if ( null != anySetterDeserializer ) {
@@ -390,19 +511,90 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
             }
         }
 
-        if ( !requiredPropertiesLeft.isEmpty() ) {
-            throw ctx.traceError( "Required properties are missing : " + requiredPropertiesLeft, reader );
+        if ( hasRequiredProperties && !isAllRequiredPropertiesRead( requiredPropertiesRead, moreRequiredPropertiesRead ) ) {
+            throw ctx.traceError( "Required properties are missing : " + getRequiredPropertiesNotRead( requiredPropertiesRead,
+                    moreRequiredPropertiesRead ), reader );
         }
         return bean;
     }
 
-    private void flushBufferedProperties( T bean, Map<String, String> bufferedProperties, Set<String> requiredPropertiesLeft,
-                                          JsonDeserializationContext ctx, boolean ignoreUnknown, Set<String> ignoredProperties ) {
+    /**
+     * @param propertyName name of the property
+     *
+     * @return the index of the property in {@link #requiredPropertyNames} or -1 if the property is not required
+     */
+    private int requiredIndexOf( String propertyName ) {
+        Integer requiredIndex = requiredPropertyIndexes.get( propertyName );
+        return null == requiredIndex ? -1 : requiredIndex;
+    }
+
+    /**
+     * Sets the bit of the required property at the given index.
+     *
+     * @return the new value of the int tracking the 32 first required properties
+     */
+    private static int markRequiredPropertyRead( int requiredIndex, int requiredPropertiesRead, int[] moreRequiredPropertiesRead ) {
+        if ( requiredIndex < 32 ) {
+            return requiredPropertiesRead | (1 << requiredIndex);
+        }
+        moreRequiredPropertiesRead[(requiredIndex >> 5) - 1] |= 1 << (requiredIndex & 31);
+        return requiredPropertiesRead;
+    }
+
+    private boolean isAllRequiredPropertiesRead( int requiredPropertiesRead, int[] moreRequiredPropertiesRead ) {
+        if ( null == moreRequiredPropertiesRead ) {
+            return requiredPropertiesRead == allBitsUpTo( requiredPropertyNames.length );
+        }
+        if ( requiredPropertiesRead != -1 ) {
+            return false;
+        }
+        int last = moreRequiredPropertiesRead.length - 1;
+        for ( int i = 0; i < last; i++ ) {
+            if ( moreRequiredPropertiesRead[i] != -1 ) {
+                return false;
+            }
+        }
+        return moreRequiredPropertiesRead[last] == allBitsUpTo( requiredPropertyNames.length - ((last + 1) << 5) );
+    }
+
+    /**
+     * @return an int with its {@code count} first bits set, all of them if count is greater than 31
+     */
+    private static int allBitsUpTo( int count ) {
+        return count >= 32 ? -1 : (1 << count) - 1;
+    }
+
+    private List<String> getRequiredPropertiesNotRead( int requiredPropertiesRead, int[] moreRequiredPropertiesRead ) {
+        List<String> notRead = new ArrayList<String>();
+        for ( int i = 0; i < requiredPropertyNames.length; i++ ) {
+            int bits = i < 32 ? requiredPropertiesRead : moreRequiredPropertiesRead[(i >> 5) - 1];
+            if ( (bits & (1 << (i & 31))) == 0 ) {
+                notRead.add( requiredPropertyNames[i] );
+            }
+        }
+        return notRead;
+    }
+
+    /**
+     * @return the new value of the int tracking the 32 first required properties
+     */
+    private int flushBufferedProperties( T bean, BufferedProperties bufferedProperties, int requiredPropertiesRead,
+                                         int[] moreRequiredPropertiesRead, JsonDeserializationContext ctx, boolean ignoreUnknown,
+                                         Set<String> ignoredProperties ) {
         if ( null != bufferedProperties && !bufferedProperties.isEmpty() ) {
-            for ( Entry<String, String> bufferedProperty : bufferedProperties.entrySet() ) {
-                String propertyName = bufferedProperty.getKey();
+            for ( int i = 0; i < bufferedProperties.size(); i++ ) {
+                JsonReader bufferedReader = bufferedProperties.remove( i );
+                if ( null == bufferedReader ) {
+                    // already consumed by the identity or the instance builder
+                    continue;
+                }
 
-                requiredPropertiesLeft.remove( propertyName );
+                String propertyName = bufferedProperties.getName( i );
+
+                int requiredIndex = requiredIndexOf( propertyName );
+                if ( requiredIndex >= 0 ) {
+                    requiredPropertiesRead = markRequiredPropertyRead( requiredIndex, requiredPropertiesRead, moreRequiredPropertiesRead );
+                }
 
                 if ( ignoredProperties.contains( propertyName ) ) {
                     continue;
@@ -410,17 +602,18 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
 
                 BeanPropertyDeserializer<T, ?> property = getPropertyDeserializer( propertyName, ctx, ignoreUnknown );
                 if ( null != property ) {
-                    property.deserialize( ctx.newJsonReader( bufferedProperty.getValue() ), bean, ctx );
+                    property.deserialize( bufferedReader, bean, ctx );
                 } else if ( null != anySetterDeserializer ) {
-                    anySetterDeserializer.deserialize( ctx.newJsonReader( bufferedProperty.getValue() ), bean, propertyName, ctx );
+                    anySetterDeserializer.deserialize( bufferedReader, bean, propertyName, ctx );
                 }
             }
         }
+        return requiredPropertiesRead;
     }
 
     private BeanPropertyDeserializer<T, ?> getPropertyDeserializer( String propertyName, JsonDeserializationContext ctx, boolean
             ignoreUnknown ) {
-        BeanPropertyDeserializer<T, ?> property = deserializers.get( propertyName );
+        BeanPropertyDeserializer<T, ?> property = findPropertyDeserializer( propertyName );
         if ( null == property ) {
             if ( !ignoreUnknown && ctx.isFailOnUnknownProperties() && null == anySetterDeserializer ) {
                 throw ctx.traceError( "Unknown property '" + propertyName + "'" );
@@ -429,15 +622,33 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         return property;
     }
 
+    private BeanPropertyDeserializer<T, ?> findPropertyDeserializer( String propertyName ) {
+        if ( null != indexedDeserializers ) {
+            int index = indexOfProperty( propertyName );
+            return index < 0 ? null : indexedDeserializers[index];
+        }
+        return deserializers.get( propertyName );
+    }
+
     private InternalDeserializer<T, ? extends JsonDeserializer<T>> getDeserializer( JsonReader reader, JsonDeserializationContext ctx,
                                                                                     TypeDeserializationInfo typeInfo, String
                                                                                             typeInformation ) {
-        Class typeClass = typeInfo.getTypeClass( typeInformation );
-        if ( null == typeClass ) {
-            throw ctx.traceError( "Could not find the type associated to " + typeInformation, reader );
+        if ( typeInfo != resolvedTypeInfo ) {
+            // the type info comes from the parameters, it only changes between different properties
+            typeInfoToDeserializer = SimpleStringMap.createObject().cast();
+            resolvedTypeInfo = typeInfo;
         }
 
-        return getDeserializer( reader, ctx, typeClass );
+        InternalDeserializer<T, ? extends JsonDeserializer<T>> deserializer = typeInfoToDeserializer.get( typeInformation );
+        if ( null == deserializer ) {
+            Class typeClass = typeInfo.getTypeClass( typeInformation );
+            if ( null == typeClass ) {
+                throw ctx.traceError( "Could not find the type associated to " + typeInformation, reader );
+            }
+            deserializer = getDeserializer( reader, ctx, typeClass );
+            typeInfoToDeserializer.put( typeInformation, deserializer );
+        }
+        return deserializer;
     }
 
     private InternalDeserializer<T, ? extends JsonDeserializer<T>> getDeserializer( JsonReader reader, JsonDeserializationContext ctx,
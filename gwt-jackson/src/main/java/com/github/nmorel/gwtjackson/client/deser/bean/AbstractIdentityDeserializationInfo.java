@@ -27,10 +27,16 @@ public abstract class AbstractIdentityDeserializationInfo<T, V> extends HasDeser
      */
     private final Class<?> scope;
 
+    /**
+     * Prefix of the keys returned by {@link #newScalarIdKey(Object)}
+     */
+    private final String scalarIdKeyPrefix;
+
     protected AbstractIdentityDeserializationInfo( String propertyName, Class<?> type, Class<?> scope ) {
         this.propertyName = propertyName;
         this.type = type;
         this.scope = scope;
+        this.scalarIdKeyPrefix = JsonDeserializationContext.scalarIdKeyPrefix( type, scope );
     }
 
     @Override
@@ -48,6 +54,11 @@ public abstract class AbstractIdentityDeserializationInfo<T, V> extends HasDeser
         return new IdKey( type, scope, id );
     }
 
+    @Override
+    public String newScalarIdKey( Object id ) {
+        return JsonDeserializationContext.scalarIdKey( scalarIdKeyPrefix, id );
+    }
+
     @Override
     public final Object readId( JsonReader reader, JsonDeserializationContext ctx ) {
         return getDeserializer().deserialize( reader, ctx );
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.deser.bean;
+
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.impl.TokenBufferJsonReader;
+import com.google.gwt.core.client.JsArrayInteger;
+import com.google.gwt.core.client.JsArrayString;
+
+/**
+ * Properties of a bean read before the bean could be instantiated (identity, type info or creator parameters not in first position).
+ * <p>The tokens of the buffered values are recorded once and replayed through a single {@link JsonReader} when the properties are
+ * deserialized.</p>
+ *
+ * @author Nicolas Morel
+ */
+public final class BufferedProperties {
+
+    private final TokenBufferJsonReader buffer;
+
+    /**
+     * Index of each property in {@link #names}
+     */
+    private final SimpleStringMap<Integer> indexes = SimpleStringMap.createObject().cast();
+
+    private final JsArrayString names = JsArrayString.createArray().cast();
+
+    /**
+     * Index of the first token of each property value or -1 if the property has been removed
+     */
+    private final JsArrayInteger starts = JsArrayInteger.createArray().cast();
+
+    /**
+     * Index of the token following each property value
+     */
+    private final JsArrayInteger ends = JsArrayInteger.createArray().cast();
+
+    private int size = 0;
+
+    private int remaining = 0;
+
+    /**
+     * @param reader the reader the properties are read from
+     */
+    public BufferedProperties( JsonReader reader ) {
+        this.buffer = new TokenBufferJsonReader( reader );
+        // the values have already been validated by the source reader
+        this.buffer.setLenient( true );
+    }
+
+    /**
+     * Buffers the value of the property {@code name}. If the property is already buffered, the new value replaces the previous one.
+     *
+     * @param name name of the property
+     * @param reader the reader positioned on the property's value
+     */
+    public void put( String name, JsonReader reader ) {
+        Integer previous = indexes.get( name );
+        if ( null != previous && starts.get( previous ) >= 0 ) {
+            starts.set( previous, -1 );
+            remaining--;
+        }
+
+        int start = buffer.record( reader );
+        indexes.put( name, size );
+        names.set( size, name );
+        starts.set( size, start );
+        ends.set( size, buffer.size() );
+        size++;
+        remaining++;
+    }
+
+    /**
+     * Removes the property {@code name} from the buffer.
+     *
+     * @param name name of the property
+     *
+     * @return the reader positioned on the property's value or null if the property is not buffered. The reader is shared by all the
+     * properties so the value must be read before calling another method of this class.
+     */
+    public JsonReader remove( String name ) {
+        Integer index = indexes.get( name );
+        if ( null == index ) {
+            return null;
+        }
+        return remove( index );
+    }
+
+    /**
+     * @return the number of properties buffered including the removed ones. Use with {@link #getName(int)} and {@link #remove(int)} to
+     * iterate over the properties in their reading order.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index index of the property
+     *
+     * @return the name of the property at the given index
+     */
+    public String getName( int index ) {
+        return names.get( index );
+    }
+
+    /**
+     * Removes the property at the given index from the buffer.
+     *
+     * @param index index of the property
+     *
+     * @return the reader positioned on the property's value or null if the property has already been removed. The reader is shared by
+     * all the properties so the value must be read before calling another method of this class.
+     */
+    public JsonReader remove( int index ) {
+        int start = starts.get( index );
+        if ( start < 0 ) {
+            return null;
+        }
+        starts.set( index, -1 );
+        remaining--;
+        buffer.replay( start, ends.get( index ) );
+        return buffer;
+    }
+
+    /**
+     * @return true if there is no property left in the buffer
+     */
+    public boolean isEmpty() {
+        return remaining == 0;
+    }
+}
@@ -44,6 +44,15 @@ public interface IdentityDeserializationInfo<T> {
      */
     IdKey newIdKey( Object id );
 
+    /**
+     * @param id Identifier
+     *
+     * @return a string equivalent to the {@link IdKey} of a scalar id or null if the id is not a scalar value
+     *
+     * @see JsonDeserializationContext#scalarIdKey(String, Object)
+     */
+    String newScalarIdKey( Object id );
+
     /**
      * Reads the id and returns it.
      *
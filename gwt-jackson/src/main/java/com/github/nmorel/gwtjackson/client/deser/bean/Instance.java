@@ -16,8 +16,6 @@
 
 package com.github.nmorel.gwtjackson.client.deser.bean;
 
-import java.util.Map;
-
 /**
  * @author Nicolas Morel
  */
@@ -25,9 +23,9 @@ public class Instance<T> {
 
     private final T instance;
 
-    private final Map<String, String> bufferedProperties;
+    private final BufferedProperties bufferedProperties;
 
-    public Instance( T instance, Map<String, String> bufferedProperties ) {
+    public Instance( T instance, BufferedProperties bufferedProperties ) {
         this.instance = instance;
         this.bufferedProperties = bufferedProperties;
     }
@@ -36,7 +34,7 @@ public class Instance<T> {
         return instance;
     }
 
-    public Map<String, String> getBufferedProperties() {
+    public BufferedProperties getBufferedProperties() {
         return bufferedProperties;
     }
 }
@@ -27,8 +27,8 @@ import com.github.nmorel.gwtjackson.client.stream.JsonReader;
  */
 public interface InstanceBuilder<T> {
 
-    Instance<T> newInstance( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params, Map<String, String> bufferedProperties,
-                             Map<String, Object> bufferedPropertiesValues );
+    Instance<T> newInstance( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params,
+                             BufferedProperties bufferedProperties, Map<String, Object> bufferedPropertiesValues );
 
     SimpleStringMap<HasDeserializerAndParameters> getParametersDeserializer();
 
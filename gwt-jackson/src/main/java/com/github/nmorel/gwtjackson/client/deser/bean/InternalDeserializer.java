@@ -16,8 +16,6 @@
 
 package com.github.nmorel.gwtjackson.client.deser.bean;
 
-import java.util.Map;
-
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
@@ -33,8 +31,8 @@ interface InternalDeserializer<T, S extends JsonDeserializer<T>> {
     S getDeserializer();
 
     T deserializeInline( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params,
-                         IdentityDeserializationInfo identityInfo, TypeDeserializationInfo typeInfo, String typeInformation, Map<String,
-            String> bufferedProperties );
+                         IdentityDeserializationInfo identityInfo, TypeDeserializationInfo typeInfo, String typeInformation,
+                         BufferedProperties bufferedProperties );
 
     T deserializeWrapped( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params,
                           IdentityDeserializationInfo identityInfo, TypeDeserializationInfo typeInfo, String typeInformation );
@@ -25,10 +25,16 @@ public class PropertyIdentityDeserializationInfo<T> implements IdentityDeseriali
      */
     private final Class<?> scope;
 
+    /**
+     * Prefix of the keys returned by {@link #newScalarIdKey(Object)}
+     */
+    private final String scalarIdKeyPrefix;
+
     public PropertyIdentityDeserializationInfo( String propertyName, Class<?> type, Class<?> scope ) {
         this.propertyName = propertyName;
         this.type = type;
         this.scope = scope;
+        this.scalarIdKeyPrefix = JsonDeserializationContext.scalarIdKeyPrefix( type, scope );
     }
 
     @Override
@@ -46,6 +52,11 @@ public class PropertyIdentityDeserializationInfo<T> implements IdentityDeseriali
         return new IdKey( type, scope, id );
     }
 
+    @Override
+    public String newScalarIdKey( Object id ) {
+        return JsonDeserializationContext.scalarIdKey( scalarIdKeyPrefix, id );
+    }
+
     @Override
     public final Object readId( JsonReader reader, JsonDeserializationContext ctx ) {
         throw ctx.traceError( "readId() is not supported by PropertyIdentitySerializationInfo" );
@@ -16,8 +16,6 @@
 
 package com.github.nmorel.gwtjackson.client.deser.bean;
 
-import java.util.Map;
-
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
@@ -41,7 +39,7 @@ public abstract class SubtypeDeserializer<T, D extends JsonDeserializer<T>> exte
         @Override
         public T deserializeInline( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params,
                                     IdentityDeserializationInfo identityInfo, TypeDeserializationInfo typeInfo, String typeInformation,
-                                    Map<String, String> bufferedProperties ) {
+                                    BufferedProperties bufferedProperties ) {
             return getDeserializer().deserializeInline( reader, ctx, params, identityInfo, typeInfo, typeInformation, bufferedProperties );
         }
 
@@ -62,7 +60,7 @@ public abstract class SubtypeDeserializer<T, D extends JsonDeserializer<T>> exte
         @Override
         public T deserializeInline( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params,
                                     IdentityDeserializationInfo identityInfo, TypeDeserializationInfo typeInfo, String typeInformation,
-                                    Map<String, String> bufferedProperties ) {
+                                    BufferedProperties bufferedProperties ) {
             throw ctx.traceError( "Cannot deserialize into a bean when not using an AbstractBeanJsonDeserializer" );
         }
 
@@ -16,9 +16,6 @@
 
 package com.github.nmorel.gwtjackson.client.deser.bean;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
 
 /**
@@ -38,12 +35,12 @@ public class TypeDeserializationInfo<T> {
      */
     private final String propertyName;
 
-    private final Map<String, Class<? extends T>> typeInfoToClass;
+    private final SimpleStringMap<Class<? extends T>> typeInfoToClass;
 
     public TypeDeserializationInfo( As include, String propertyName ) {
         this.include = include;
         this.propertyName = propertyName;
-        this.typeInfoToClass = new HashMap<String, Class<? extends T>>();
+        this.typeInfoToClass = SimpleStringMap.createObject().cast();
     }
 
     public <S extends T> TypeDeserializationInfo<T> addTypeInfo( Class<S> clazz, String typeInfo ) {
@@ -45,17 +45,10 @@ public abstract class BaseCollectionJsonDeserializer<C extends Collection<T>, T>
     public C doDeserialize( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
         if ( JsonToken.BEGIN_ARRAY == reader.peek() ) {
 
-            C result = newCollection();
-
-            reader.beginArray();
-            while ( JsonToken.END_ARRAY != reader.peek() ) {
-                T element = deserializer.deserialize( reader, ctx, params );
-                if ( isNullValueAllowed() || null != element ) {
-                    result.add( element );
-                }
+            C result = beginElements( reader );
+            while ( deserializeNextElement( reader, ctx, params, result ) ) {
+                // the elements are added to the collection
             }
-            reader.endArray();
-
             return result;
 
         } else if ( ctx.isAcceptSingleValueAsArray() ) {
@@ -69,6 +62,43 @@ public abstract class BaseCollectionJsonDeserializer<C extends Collection<T>, T>
         }
     }
 
+    /**
+     * Enters the JSON array and instantiates the collection. The elements can then be deserialized one at a time with {@link
+     * #deserializeNextElement(JsonReader, JsonDeserializationContext, JsonDeserializerParameters, Collection)}.
+     *
+     * @param reader reader positioned on the beginning of the array
+     *
+     * @return the new collection
+     */
+    public C beginElements( JsonReader reader ) {
+        C result = newCollection();
+        reader.beginArray();
+        return result;
+    }
+
+    /**
+     * Deserializes the next element of the JSON array and adds it to the collection. Exits the array if there is no element left.
+     *
+     * @param reader reader
+     * @param ctx context of the deserialization process
+     * @param params parameters for the elements
+     * @param collection collection returned by {@link #beginElements(JsonReader)}
+     *
+     * @return true if an element has been read, false if the end of the array has been reached
+     */
+    public boolean deserializeNextElement( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params,
+                                           C collection ) {
+        if ( JsonToken.END_ARRAY == reader.peek() ) {
+            reader.endArray();
+            return false;
+        }
+        T element = deserializer.deserialize( reader, ctx, params );
+        if ( isNullValueAllowed() || null != element ) {
+            collection.add( element );
+        }
+        return true;
+    }
+
     /**
      * Instantiates a new collection for deserialization process.
      *
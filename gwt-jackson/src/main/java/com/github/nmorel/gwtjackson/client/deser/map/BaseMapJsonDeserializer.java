@@ -22,6 +22,7 @@ import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.deser.map.key.KeyDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.map.key.StringKeyDeserializer;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
 import com.github.nmorel.gwtjackson.client.stream.JsonToken;
 
@@ -62,15 +63,25 @@ public abstract class BaseMapJsonDeserializer<M extends Map<K, V>, K, V> extends
     }
 
     @Override
+    @SuppressWarnings( "unchecked" )
     public M doDeserialize( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
         M result = newMap();
 
         reader.beginObject();
-        while ( JsonToken.END_OBJECT != reader.peek() ) {
-            String name = reader.nextName();
-            K key = keyDeserializer.deserialize( name, ctx );
-            V value = valueDeserializer.deserialize( reader, ctx, params );
-            result.put( key, value );
+        if ( keyDeserializer == StringKeyDeserializer.getInstance() ) {
+            // the names are the keys, no need to deserialize them
+            Map<String, V> map = (Map<String, V>) result;
+            while ( JsonToken.END_OBJECT != reader.peek() ) {
+                String name = reader.nextName();
+                map.put( name, valueDeserializer.deserialize( reader, ctx, params ) );
+            }
+        } else {
+            while ( JsonToken.END_OBJECT != reader.peek() ) {
+                String name = reader.nextName();
+                K key = keyDeserializer.deserialize( name, ctx );
+                V value = valueDeserializer.deserialize( reader, ctx, params );
+                result.put( key, value );
+            }
         }
         reader.endObject();
 
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.deser.map;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.github.nmorel.gwtjackson.client.AbstractConfiguration;
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.map.key.KeyDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.map.key.StringKeyDeserializer;
+import com.github.nmorel.gwtjackson.client.utils.JsStringMap;
+
+/**
+ * {@link JsonDeserializer} implementation for {@link Map} returning a {@link JsStringMap} when the keys are {@link String} and a
+ * {@link LinkedHashMap} otherwise. It replaces the default deserializer of {@link Map} when {@link
+ * AbstractConfiguration#jsStringMaps(boolean)} is enabled.
+ *
+ * @param <K> Type of the keys inside the {@link Map}
+ * @param <V> Type of the values inside the {@link Map}
+ *
+ * @author Nicolas Morel
+ */
+public final class JsStringMapJsonDeserializer<K, V> extends BaseMapJsonDeserializer<Map<K, V>, K, V> {
+
+    /**
+     * @param keyDeserializer {@link KeyDeserializer} used to deserialize the keys.
+     * @param valueDeserializer {@link JsonDeserializer} used to deserialize the values.
+     * @param <K> Type of the keys inside the {@link Map}
+     * @param <V> Type of the values inside the {@link Map}
+     *
+     * @return a new instance of {@link JsStringMapJsonDeserializer}
+     */
+    public static <K, V> JsStringMapJsonDeserializer<K, V> newInstance( KeyDeserializer<K> keyDeserializer,
+                                                                        JsonDeserializer<V> valueDeserializer ) {
+        return new JsStringMapJsonDeserializer<K, V>( keyDeserializer, valueDeserializer );
+    }
+
+    /**
+     * @param keyDeserializer {@link KeyDeserializer} used to deserialize the keys.
+     * @param valueDeserializer {@link JsonDeserializer} used to deserialize the values.
+     */
+    private JsStringMapJsonDeserializer( KeyDeserializer<K> keyDeserializer, JsonDeserializer<V> valueDeserializer ) {
+        super( keyDeserializer, valueDeserializer );
+    }
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    protected Map<K, V> newMap() {
+        if ( keyDeserializer == StringKeyDeserializer.getInstance() ) {
+            return (Map<K, V>) new JsStringMap<V>();
+        }
+        return new LinkedHashMap<K, V>();
+    }
+}
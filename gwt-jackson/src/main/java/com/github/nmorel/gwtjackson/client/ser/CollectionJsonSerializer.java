@@ -19,11 +19,13 @@ package com.github.nmorel.gwtjackson.client.ser;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Collection;
+import java.util.List;
 
 import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
 import com.github.nmorel.gwtjackson.client.JsonSerializer;
 import com.github.nmorel.gwtjackson.client.JsonSerializerParameters;
 import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+import com.github.nmorel.gwtjackson.client.utils.JsArrayList;
 
 /**
  * Default {@link JsonSerializer} implementation for {@link Collection}.
@@ -78,8 +80,16 @@ public class CollectionJsonSerializer<C extends Collection<T>, T> extends JsonSe
             serializer.serialize( writer, values.iterator().next(), ctx, params );
         } else {
             writer.beginArray();
-            for ( T value : values ) {
-                serializer.serialize( writer, value, ctx, params );
+            if ( values instanceof JsArrayList ) {
+                // indexed loop, the elements are read directly from the JavaScript array
+                List<T> list = (List<T>) values;
+                for ( int i = 0, size = list.size(); i < size; i++ ) {
+                    serializer.serialize( writer, list.get( i ), ctx, params );
+                }
+            } else {
+                for ( T value : values ) {
+                    serializer.serialize( writer, value, ctx, params );
+                }
             }
             writer.endArray();
         }
@@ -19,11 +19,13 @@ package com.github.nmorel.gwtjackson.client.ser;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Iterator;
+import java.util.List;
 
 import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
 import com.github.nmorel.gwtjackson.client.JsonSerializer;
 import com.github.nmorel.gwtjackson.client.JsonSerializerParameters;
 import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+import com.github.nmorel.gwtjackson.client.utils.JsArrayList;
 
 /**
  * Default {@link JsonSerializer} implementation for {@link Iterable}.
@@ -63,6 +65,11 @@ public class IterableJsonSerializer<I extends Iterable<T>, T> extends JsonSerial
 
     @Override
     public void doSerialize( JsonWriter writer, @Nonnull I values, JsonSerializationContext ctx, JsonSerializerParameters params ) {
+        if ( values instanceof JsArrayList ) {
+            serializeList( writer, (List<T>) values, ctx, params );
+            return;
+        }
+
         Iterator<T> iterator = values.iterator();
 
         if ( !iterator.hasNext() ) {
@@ -100,4 +107,32 @@ public class IterableJsonSerializer<I extends Iterable<T>, T> extends JsonSerial
             writer.endArray();
         }
     }
+
+    /**
+     * Serializes a {@link List} with random access using an indexed loop instead of an {@link Iterator}.
+     */
+    private void serializeList( JsonWriter writer, List<T> values, JsonSerializationContext ctx, JsonSerializerParameters params ) {
+        int size = values.size();
+
+        if ( size == 0 ) {
+            if ( ctx.isWriteEmptyJsonArrays() ) {
+                writer.beginArray();
+                writer.endArray();
+            } else {
+                writer.cancelName();
+            }
+            return;
+        }
+
+        if ( ctx.isWriteSingleElemArraysUnwrapped() && size == 1 ) {
+            // there is only one element, we write it directly
+            serializer.serialize( writer, values.get( 0 ), ctx, params );
+        } else {
+            writer.beginArray();
+            for ( int i = 0; i < size; i++ ) {
+                serializer.serialize( writer, values.get( i ), ctx, params );
+            }
+            writer.endArray();
+        }
+    }
 }
@@ -23,6 +23,8 @@ import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
 import com.github.nmorel.gwtjackson.client.JsonSerializer;
 import com.github.nmorel.gwtjackson.client.JsonSerializerParameters;
 import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JavaScriptObject;
 
 /**
  * Default {@link JsonSerializer} implementation for array of float.
@@ -40,6 +42,22 @@ public class PrimitiveFloatArrayJsonSerializer extends JsonSerializer<float[]> {
         return INSTANCE;
     }
 
+    private static native JavaScriptObject toJsArray( float[] value ) /*-{
+        return Array.prototype.slice.call(value);
+    }-*/;
+
+    /**
+     * @return true if all the values are finite, {@code JSON.stringify} would write the others as null
+     */
+    private static native boolean allFinite( float[] values ) /*-{
+        for (var i = 0; i < values.length; i++) {
+            if (!isFinite(values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }-*/;
+
     private PrimitiveFloatArrayJsonSerializer() { }
 
     @Override
@@ -56,6 +74,10 @@ public class PrimitiveFloatArrayJsonSerializer extends JsonSerializer<float[]> {
 
         if ( ctx.isWriteSingleElemArraysUnwrapped() && values.length == 1 ) {
             writer.value( values[0] );
+        } else if ( GWT.isScript() && !ctx.isIndent() && allFinite( values ) ) {
+            // in compiled code, the array is a JavaScript array of numbers written by a single JSON.stringify. The
+            // writer may keep it in its tree so we give it a copy without the class metadata of GWT
+            writer.value( toJsArray( values ) );
         } else {
             writer.beginArray();
             for ( float value : values ) {
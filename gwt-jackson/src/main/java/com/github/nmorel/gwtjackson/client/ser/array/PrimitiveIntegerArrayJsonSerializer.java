@@ -23,6 +23,8 @@ import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
 import com.github.nmorel.gwtjackson.client.JsonSerializer;
 import com.github.nmorel.gwtjackson.client.JsonSerializerParameters;
 import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JavaScriptObject;
 
 /**
  * Default {@link JsonSerializer} implementation for array of int.
@@ -40,6 +42,10 @@ public class PrimitiveIntegerArrayJsonSerializer extends JsonSerializer<int[]> {
         return INSTANCE;
     }
 
+    private static native JavaScriptObject toJsArray( int[] value ) /*-{
+        return Array.prototype.slice.call(value);
+    }-*/;
+
     private PrimitiveIntegerArrayJsonSerializer() { }
 
     @Override
@@ -56,6 +62,10 @@ public class PrimitiveIntegerArrayJsonSerializer extends JsonSerializer<int[]> {
 
         if ( ctx.isWriteSingleElemArraysUnwrapped() && values.length == 1 ) {
             writer.value( values[0] );
+        } else if ( GWT.isScript() && !ctx.isIndent() ) {
+            // in compiled code, the array is a JavaScript array of numbers written by a single JSON.stringify. The
+            // writer may keep it in its tree so we give it a copy without the class metadata of GWT
+            writer.value( toJsArray( values ) );
         } else {
             writer.beginArray();
             for ( int value : values ) {
@@ -17,7 +17,9 @@
 package com.github.nmorel.gwtjackson.client.ser.bean;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
@@ -47,6 +49,31 @@ public abstract class AbstractBeanJsonSerializer<T> extends JsonSerializer<T> im
 
     private final AnyGetterPropertySerializer<T> anyGetterPropertySerializer;
 
+    /**
+     * Ignored properties used to build {@link #filteredSerializers}
+     */
+    private Set<String> filteredIgnoredProperties;
+
+    /**
+     * Identity property name used to build {@link #filteredSerializers}
+     */
+    private String filteredIdentityPropertyName;
+
+    /**
+     * Property serializers left after the last filter, see {@link #getFilteredSerializers(Set, String)}
+     */
+    private BeanPropertySerializer<T, ?>[] filteredSerializers;
+
+    /**
+     * Last subtype class serialized, the elements of a collection usually share the same class
+     */
+    private Class<?> lastSubtypeClass;
+
+    /**
+     * Serializer resolved for {@link #lastSubtypeClass}
+     */
+    private InternalSerializer<T> lastSubtypeSerializer;
+
     protected AbstractBeanJsonSerializer() {
         this.serializers = initSerializers();
         this.defaultIdentityInfo = initIdentityInfo();
@@ -99,18 +126,25 @@ public abstract class AbstractBeanJsonSerializer<T> extends JsonSerializer<T> im
     }
 
     private InternalSerializer<T> getSerializer( JsonWriter writer, T value, JsonSerializationContext ctx ) {
-        if ( value.getClass() == getSerializedType() ) {
+        Class valueClass = value.getClass();
+        if ( valueClass == getSerializedType() ) {
             return this;
         }
-        SubtypeSerializer subtypeSerializer = subtypeClassToSerializer.get( value.getClass() );
-        if ( null == subtypeSerializer ) {
+        if ( valueClass == lastSubtypeClass ) {
+            return lastSubtypeSerializer;
+        }
+
+        InternalSerializer<T> serializer = subtypeClassToSerializer.get( valueClass );
+        if ( null == serializer ) {
             if ( ctx.getLogger().isLoggable( Level.FINE ) ) {
-                ctx.getLogger().fine( "Cannot find serializer for class " + value
-                        .getClass() + ". Fallback to the serializer of " + getSerializedType() );
+                ctx.getLogger().fine( "Cannot find serializer for class " + valueClass + ". Fallback to the serializer of " +
+                        getSerializedType() );
             }
-            return this;
+            serializer = this;
         }
-        return subtypeSerializer;
+        lastSubtypeClass = valueClass;
+        lastSubtypeSerializer = serializer;
+        return serializer;
     }
 
     public void serializeInternally( JsonWriter writer, T value, JsonSerializationContext ctx, JsonSerializerParameters params,
@@ -233,9 +267,12 @@ public abstract class AbstractBeanJsonSerializer<T> extends JsonSerializer<T> im
 
     private void serializeProperties( JsonWriter writer, T value, JsonSerializationContext ctx, Set<String> ignoredProperties,
                                       IdentitySerializationInfo identityInfo ) {
-        for ( BeanPropertySerializer<T, ?> propertySerializer : serializers ) {
-            if ( (null == identityInfo || !identityInfo.isProperty() || !identityInfo.getPropertyName().equals( propertySerializer
-                    .getPropertyName() )) && !ignoredProperties.contains( propertySerializer.getPropertyName() ) ) {
+        // the filters are resolved once for the bean instead of once for each property
+        String identityPropertyName = null == identityInfo || !identityInfo.isProperty() ? null : identityInfo.getPropertyName();
+        if ( null == identityPropertyName && ignoredProperties.isEmpty() ) {
+            serializeAllProperties( writer, value, ctx );
+        } else {
+            for ( BeanPropertySerializer<T, ?> propertySerializer : getFilteredSerializers( ignoredProperties, identityPropertyName ) ) {
                 propertySerializer.serializePropertyName( writer, value, ctx );
                 propertySerializer.serialize( writer, value, ctx );
             }
@@ -245,4 +282,47 @@ public abstract class AbstractBeanJsonSerializer<T> extends JsonSerializer<T> im
             anyGetterPropertySerializer.serialize( writer, value, ctx );
         }
     }
+
+    /**
+     * Returns the property serializers left once the ignored properties and the identity property are removed. The result is kept for
+     * the next call so the elements of a collection, all serialized with the same parameters, don't filter the properties again.
+     *
+     * @param ignoredProperties ignored properties
+     * @param identityPropertyName name of the identity property or null
+     *
+     * @return the property serializers to use
+     */
+    @SuppressWarnings( "unchecked" )
+    private BeanPropertySerializer<T, ?>[] getFilteredSerializers( Set<String> ignoredProperties, String identityPropertyName ) {
+        // the parameters give the same instances each time, comparing the references is enough
+        if ( null == filteredSerializers || ignoredProperties != filteredIgnoredProperties || identityPropertyName !=
+                filteredIdentityPropertyName ) {
+            List<BeanPropertySerializer<T, ?>> result = new ArrayList<BeanPropertySerializer<T, ?>>( serializers.length );
+            for ( BeanPropertySerializer<T, ?> propertySerializer : serializers ) {
+                if ( !propertySerializer.getPropertyName().equals( identityPropertyName ) && !ignoredProperties.contains( propertySerializer
+                        .getPropertyName() ) ) {
+                    result.add( propertySerializer );
+                }
+            }
+            filteredSerializers = result.toArray( new BeanPropertySerializer[result.size()] );
+            filteredIgnoredProperties = ignoredProperties;
+            filteredIdentityPropertyName = identityPropertyName;
+        }
+        return filteredSerializers;
+    }
+
+    /**
+     * Serializes all the properties of the bean, in the order of {@link #serializers}. The generated serializers may override it with a
+     * straight-line body calling the property serializers directly.
+     *
+     * @param writer writer
+     * @param value bean to serialize
+     * @param ctx context of the serialization process
+     */
+    protected void serializeAllProperties( JsonWriter writer, T value, JsonSerializationContext ctx ) {
+        for ( BeanPropertySerializer<T, ?> propertySerializer : serializers ) {
+            propertySerializer.serializePropertyName( writer, value, ctx );
+            propertySerializer.serialize( writer, value, ctx );
+        }
+    }
 }
@@ -30,10 +30,24 @@ public abstract class BeanPropertySerializer<T, V> extends HasSerializer<V, Json
 
     protected final String propertyName;
 
+    /**
+     * Property name with its separators, like {@code ,"name":}
+     */
+    private final String nameToken;
+
     private JsonSerializerParameters parameters;
 
     protected BeanPropertySerializer( String propertyName ) {
+        this( propertyName, null == propertyName ? null : ",\"" + propertyName + "\":" );
+    }
+
+    /**
+     * @param propertyName name of the property
+     * @param nameToken name of the property with its separators, see {@link JsonWriter#nameToken(String)}
+     */
+    protected BeanPropertySerializer( String propertyName, String nameToken ) {
         this.propertyName = propertyName;
+        this.nameToken = nameToken;
     }
 
     protected JsonSerializerParameters getParameters() {
@@ -59,7 +73,7 @@ public abstract class BeanPropertySerializer<T, V> extends HasSerializer<V, Json
      * @param ctx context of the serialization process
      */
     public void serializePropertyName( JsonWriter writer, T bean, JsonSerializationContext ctx ) {
-        writer.unescapeName( propertyName );
+        writer.nameToken( nameToken );
     }
 
     /**
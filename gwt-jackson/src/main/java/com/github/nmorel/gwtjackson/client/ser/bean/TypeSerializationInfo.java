@@ -40,6 +40,13 @@ public class TypeSerializationInfo<T> {
 
     private final Map<Class<? extends T>, String> typeClassToInfo;
 
+    /**
+     * Last class given to {@link #getTypeInfo(Class)}, the elements of a collection usually share the same class
+     */
+    private Class<?> lastClass;
+
+    private String lastTypeInfo;
+
     public TypeSerializationInfo( As include, String propertyName ) {
         this.include = include;
         this.propertyName = propertyName;
@@ -60,6 +67,10 @@ public class TypeSerializationInfo<T> {
     }
 
     public String getTypeInfo( Class aClass ) {
-        return typeClassToInfo.get( aClass );
+        if ( aClass != lastClass ) {
+            lastTypeInfo = typeClassToInfo.get( aClass );
+            lastClass = aClass;
+        }
+        return lastTypeInfo;
     }
 }
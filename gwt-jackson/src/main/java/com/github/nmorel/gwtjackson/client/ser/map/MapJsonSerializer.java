@@ -26,8 +26,13 @@ import java.util.TreeMap;
 import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
 import com.github.nmorel.gwtjackson.client.JsonSerializer;
 import com.github.nmorel.gwtjackson.client.JsonSerializerParameters;
+import com.github.nmorel.gwtjackson.client.deser.bean.SimpleStringMap;
 import com.github.nmorel.gwtjackson.client.ser.map.key.KeySerializer;
+import com.github.nmorel.gwtjackson.client.ser.map.key.ToStringKeySerializer;
 import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+import com.github.nmorel.gwtjackson.client.utils.JsStringMap;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArrayString;
 
 /**
  * Default {@link JsonSerializer} implementation for {@link Map}.
@@ -52,6 +57,13 @@ public class MapJsonSerializer<M extends Map<K, V>, K, V> extends JsonSerializer
         return new MapJsonSerializer( keySerializer, valueSerializer );
     }
 
+    /**
+     * Sorts the strings by their UTF-16 code units, the same order as {@link String#compareTo(String)}
+     */
+    private static native void sort( JsArrayString strings ) /*-{
+        strings.sort();
+    }-*/;
+
     protected final KeySerializer<K> keySerializer;
 
     protected final JsonSerializer<V> valueSerializer;
@@ -85,10 +97,19 @@ public class MapJsonSerializer<M extends Map<K, V>, K, V> extends JsonSerializer
         writer.endObject();
     }
 
+    @SuppressWarnings( "unchecked" )
     public void serializeValues( JsonWriter writer, M values, JsonSerializationContext ctx, JsonSerializerParameters params ) {
         if ( !values.isEmpty() ) {
+            if ( values instanceof JsStringMap && keySerializer == ToStringKeySerializer.getInstance() ) {
+                serializeJsStringMapValues( writer, (JsStringMap<V>) values, ctx, params );
+                return;
+            }
+
             Map<K, V> map = values;
             if ( ctx.isOrderMapEntriesByKeys() && !(values instanceof SortedMap<?, ?>) ) {
+                if ( serializeValuesSortedByStringKeys( writer, values, ctx, params ) ) {
+                    return;
+                }
                 map = new TreeMap<K, V>( map );
             }
 
@@ -121,4 +142,71 @@ public class MapJsonSerializer<M extends Map<K, V>, K, V> extends JsonSerializer
             }
         }
     }
+
+    /**
+     * Writes the entries of a map with {@link String} keys in the order of the keys. The keys are collected and sorted natively, the
+     * values are then found again in a native map instead of copying all the entries in a {@link TreeMap}.
+     *
+     * @return false if the keys are not all strings, the entries have to be sorted by a {@link TreeMap}
+     */
+    private boolean serializeValuesSortedByStringKeys( JsonWriter writer, M values, JsonSerializationContext ctx,
+                                                       JsonSerializerParameters params ) {
+        if ( keySerializer != ToStringKeySerializer.getInstance() ) {
+            return false;
+        }
+
+        boolean writeNullMapValues = ctx.isWriteNullMapValues();
+        JsArrayString names = JavaScriptObject.createArray().cast();
+        SimpleStringMap<V> valuesByName = JavaScriptObject.createObject().cast();
+        for ( Entry<K, V> entry : values.entrySet() ) {
+            if ( !(entry.getKey() instanceof String) ) {
+                return false;
+            }
+            if ( writeNullMapValues || null != entry.getValue() ) {
+                String name = (String) entry.getKey();
+                names.push( name );
+                valuesByName.put( name, entry.getValue() );
+            }
+        }
+        sort( names );
+
+        boolean mustBeEscaped = keySerializer.mustBeEscaped( ctx );
+        for ( int i = 0; i < names.length(); i++ ) {
+            String name = names.get( i );
+            if ( mustBeEscaped ) {
+                writer.name( name );
+            } else {
+                writer.unescapeName( name );
+            }
+            valueSerializer.serialize( writer, valuesByName.get( name ), ctx, params );
+        }
+        return true;
+    }
+
+    /**
+     * Writes the entries of a {@link JsStringMap}. The keys are read directly from the JavaScript object backing the map and are
+     * written as they are, without going through the {@link KeySerializer}.
+     */
+    private void serializeJsStringMapValues( JsonWriter writer, JsStringMap<V> values, JsonSerializationContext ctx,
+                                             JsonSerializerParameters params ) {
+        JsArrayString names = values.keys();
+        if ( ctx.isOrderMapEntriesByKeys() ) {
+            sort( names );
+        }
+
+        boolean writeNullMapValues = ctx.isWriteNullMapValues();
+        boolean mustBeEscaped = keySerializer.mustBeEscaped( ctx );
+        for ( int i = 0; i < names.length(); i++ ) {
+            String name = names.get( i );
+            V value = values.get( name );
+            if ( writeNullMapValues || null != value ) {
+                if ( mustBeEscaped ) {
+                    writer.name( name );
+                } else {
+                    writer.unescapeName( name );
+                }
+                valueSerializer.serialize( writer, value, ctx, params );
+            }
+        }
+    }
 }
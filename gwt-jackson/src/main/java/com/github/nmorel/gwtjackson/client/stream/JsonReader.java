@@ -95,6 +95,14 @@ public interface JsonReader
      */
     String nextName();
 
+    /**
+     * Returns the next token, a {@link JsonToken#NAME property name}, and
+     * consumes it. If the name equals {@code expected}, {@code expected} itself
+     * is returned so the caller can check the match by identity. Implementations
+     * may compare the input with {@code expected} without creating a new string.
+     */
+    String nextName( String expected );
+
     /**
      * Returns the {@link JsonToken#STRING string} value of the next token,
      * consuming it. If the next token is a number, this method will return its
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream;
+
+/**
+ * Receives the output of a {@link JsonWriter} in chunks as the writer's buffer fills, so the whole document never has to exist as a
+ * single string. The chunks are given in order and their concatenation is the JSON output. A chunk never ends in the middle of a
+ * surrogate pair so each chunk can be encoded on its own.
+ *
+ * @author Nicolas Morel
+ * @see com.github.nmorel.gwtjackson.client.ObjectWriter#write(Object, JsonSink)
+ */
+public interface JsonSink {
+
+    /**
+     * @param chunk the next part of the output, never empty
+     */
+    void write( String chunk );
+}
@@ -98,6 +98,16 @@ public interface JsonWriter {
      */
     JsonWriter unescapeName( String name );
 
+    /**
+     * Encodes the property name without escaping it. The name comes from a token
+     * made of a comma, the quoted name and a colon, like {@code ,"name":}, so the
+     * writer can append it without building it for each value.
+     *
+     * @param token the name of the forthcoming value with its separators. May not be null.
+     * @return this writer.
+     */
+    JsonWriter nameToken( String token );
+
     /**
      * Encodes {@code value}.
      *
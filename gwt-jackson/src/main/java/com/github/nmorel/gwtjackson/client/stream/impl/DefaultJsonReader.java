@@ -764,6 +764,43 @@ public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.st
     return result;
   }
 
+  @Override
+  public String nextName(String expected)
+  {
+    int p = peeked;
+    if (p == PEEKED_NONE) {
+      p = doPeek();
+    }
+    if (p == PEEKED_DOUBLE_QUOTED_NAME && isNextQuotedValue(expected)) {
+      pos += expected.length() + 1;
+      peeked = PEEKED_NONE;
+      return expected;
+    }
+    String result = nextName();
+    return result.equals(expected) ? expected : result;
+  }
+
+  /**
+   * Returns true if the double quoted value at the current position is exactly
+   * {@code value}. The input is compared directly so no string is created.
+   */
+  private boolean isNextQuotedValue(String value)
+  {
+    int length = value.length();
+    int end = pos + length;
+    if (end >= limit || buffer[end] != '"') {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      char c = buffer[pos + i];
+      // escape sequences and line feeds are left to nextQuotedValue
+      if (c != value.charAt(i) || c == '\\' || c == '"' || c == '\n') {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   public String nextString()
   {
@@ -917,8 +954,9 @@ public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.st
   private String nextQuotedValue(char quote)
   {
     // Like nextNonWhitespace, this uses locals 'p' and 'l' to save inner-loop field access.
+    // The builder is only created when an escape sequence is found or when the string doesn't fit in the buffer.
     char[] buffer = this.buffer;
-    StringBuilder builder = new StringBuilder();
+    StringBuilder builder = null;
     while (true) {
       int p = pos;
       int l = limit;
@@ -929,10 +967,16 @@ public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.st
 
         if (c == quote) {
           pos = p;
+          if (builder == null) {
+            return new String(buffer, start, p - start - 1);
+          }
           builder.append(buffer, start, p - start - 1);
           return builder.toString();
         } else if (c == '\\') {
           pos = p;
+          if (builder == null) {
+            builder = new StringBuilder();
+          }
           builder.append(buffer, start, p - start - 1);
           builder.append(readEscapeCharacter());
           p = pos;
@@ -944,6 +988,9 @@ public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.st
         }
       }
 
+      if (builder == null) {
+        builder = new StringBuilder();
+      }
       builder.append(buffer, start, p - start);
       pos = p;
       if (!fillBuffer(1)) {
@@ -323,6 +323,11 @@ public class DefaultJsonWriter implements com.github.nmorel.gwtjackson.client.st
     return this;
   }
 
+  @Override
+  public DefaultJsonWriter nameToken( String token ) {
+    return unescapeName(token.substring(2, token.length() - 2));
+  }
+
   private void checkName(String name) {
     if (name == null) {
       throw new NullPointerException("name == null");
@@ -20,6 +20,7 @@ package com.github.nmorel.gwtjackson.client.stream.impl;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.github.nmorel.gwtjackson.client.deser.bean.SimpleStringMap;
 import com.github.nmorel.gwtjackson.client.exception.JsonSerializationException;
 import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.core.client.JsArrayInteger;
@@ -27,13 +28,28 @@ import com.google.gwt.core.client.JsonUtils;
 
 /**
  * Same as {@link DefaultJsonWriter} but uses {@link JsonUtils#escapeValue(String)} instead of the REPLACEMENT_CHARS array.
+ * The strings made of printable ASCII characters only are written as is and the escaped form of the short strings is cached.
  */
 public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.stream.JsonWriter {
 
   private static final Logger logger = Logger.getLogger( "JsonWriter" );
 
+  /** Maximum number of escaped strings kept in {@link #escapeCache}. */
+  private static final int ESCAPE_CACHE_SIZE = 256;
+
+  /** Maximum length of the strings kept in {@link #escapeCache}. */
+  private static final int ESCAPE_CACHE_MAX_LENGTH = 32;
+
+  /**
+   * Escaped form of the short strings needing escaping, like the keys of a map repeated in every entry. It is dropped once it
+   * reaches {@link #ESCAPE_CACHE_SIZE} strings.
+   */
+  private static SimpleStringMap<String> escapeCache;
+
+  private static int escapeCacheSize;
+
   /** The output data, containing at most one top-level array or object. */
-  private final StringBuilder out;
+  private final JsonOutputBuffer out;
 
   private JsArrayInteger stack = JsArrayInteger.createArray().cast();
   private int stackSize = 0;
@@ -58,16 +74,45 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
 
   private String deferredName;
 
+  /**
+   * A name token given to {@link #nameToken(String)}, like {@code ,"name":}.
+   */
+  private String deferredNameToken;
+
   private boolean serializeNulls = true;
 
   /**
    * Creates a new instance that writes a JSON-encoded stream to {@code out}.
    */
   public FastJsonWriter( StringBuilder out ) {
+    this(JsonOutputBuffer.wrap(checkNotNull(out)));
+  }
+
+  /**
+   * Creates a new instance that writes a JSON-encoded stream to {@code out}.
+   */
+  public FastJsonWriter( JsonOutputBuffer out ) {
+    this.out = checkNotNull(out);
+  }
+
+  private static <T> T checkNotNull(T out) {
     if (out == null) {
       throw new NullPointerException("out == null");
     }
-    this.out = out;
+    return out;
+  }
+
+  /**
+   * Discards the output and the state of the previous write so this writer
+   * can write a new document. The settings are kept.
+   */
+  public void reset() {
+    out.clear();
+    stackSize = 0;
+    push( JsonScope.EMPTY_DOCUMENT);
+    deferredUnescapeName = null;
+    deferredName = null;
+    deferredNameToken = null;
   }
 
   @Override
@@ -150,8 +195,9 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
     if (context != nonempty && context != empty) {
       throw new IllegalStateException("Nesting problem.");
     }
-    if (deferredUnescapeName != null || deferredName != null) {
-      throw new IllegalStateException("Dangling name: " + (deferredUnescapeName == null ? deferredName : deferredUnescapeName));
+    if (hasDeferredName()) {
+      throw new IllegalStateException("Dangling name: " + (deferredNameToken != null ? deferredNameToken
+          : deferredUnescapeName == null ? deferredName : deferredUnescapeName));
     }
 
     stackSize--;
@@ -197,11 +243,22 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
     return this;
   }
 
+  @Override
+  public FastJsonWriter nameToken( String token ) {
+    checkName(token);
+    deferredNameToken = token;
+    return this;
+  }
+
+  private boolean hasDeferredName() {
+    return deferredNameToken != null || deferredUnescapeName != null || deferredName != null;
+  }
+
   private void checkName(String name) {
     if (name == null) {
       throw new NullPointerException("name == null");
     }
-    if (deferredUnescapeName != null || deferredName != null) {
+    if (hasDeferredName()) {
       throw new IllegalStateException();
     }
     if (stackSize == 0) {
@@ -210,7 +267,10 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
   }
 
   private void writeDeferredName() {
-    if (deferredUnescapeName != null) {
+    if (deferredNameToken != null) {
+      writeNameToken(deferredNameToken);
+      deferredNameToken = null;
+    } else if (deferredUnescapeName != null) {
       beforeName();
       out.append('\"').append(deferredUnescapeName).append('\"');
       deferredUnescapeName = null;
@@ -221,6 +281,25 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
     }
   }
 
+  private void writeNameToken(String token) {
+    if (indent != null) {
+      // the comma and the separator come with whitespaces
+      beforeName();
+      out.append(token, 1, token.length() - 1);
+      return;
+    }
+
+    int context = peek();
+    if (context == JsonScope.NONEMPTY_OBJECT) {
+      out.append(token);
+    } else if (context == JsonScope.EMPTY_OBJECT) { // first in object, no comma
+      out.append(token, 1, token.length());
+    } else {
+      throw new IllegalStateException("Nesting problem.");
+    }
+    replaceTop(JsonScope.DANGLING_NAME_AND_SEPARATOR);
+  }
+
   @Override
   public FastJsonWriter value( String value ) {
     if (value == null) {
@@ -245,10 +324,11 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
 
   @Override
   public FastJsonWriter nullValue() {
-    if (deferredUnescapeName != null || deferredName != null) {
+    if (hasDeferredName()) {
       if (serializeNulls) {
         writeDeferredName();
       } else {
+        deferredNameToken = null;
         deferredUnescapeName = null;
         deferredName = null;
         return this; // skip the name and the value
@@ -261,7 +341,9 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
 
   @Override
   public FastJsonWriter cancelName() {
-    if (deferredUnescapeName != null) {
+    if (deferredNameToken != null) {
+      deferredNameToken = null;
+    } else if (deferredUnescapeName != null) {
       deferredUnescapeName = null;
     } else if (deferredName != null) {
       deferredName = null;
@@ -344,6 +426,7 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
     if (stackSize == 0) {
       throw new IllegalStateException("JsonWriter is closed.");
     }
+    out.flush();
   }
 
   @Override
@@ -353,11 +436,46 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
       logger.log(Level.SEVERE, "Incomplete document");
       throw new JsonSerializationException("Incomplete document");
     }
+    out.flush();
     stackSize = 0;
   }
 
   private void string(String value) {
-    out.append(JsonUtils.escapeValue(value));
+    if (!needsEscaping(value)) {
+      out.append('\"').append(value).append('\"');
+    } else if (value.length() > ESCAPE_CACHE_MAX_LENGTH) {
+      out.append(JsonUtils.escapeValue(value));
+    } else {
+      out.append(cachedEscapeValue(value));
+    }
+  }
+
+  /**
+   * Returns false if the value is made of printable ASCII characters other than quote and backslash only. Such a value is its own
+   * escaped form.
+   */
+  private static boolean needsEscaping(String value) {
+    for (int i = 0, length = value.length(); i < length; i++) {
+      char c = value.charAt(i);
+      if (c < ' ' || c > '~' || c == '\"' || c == '\\') {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String cachedEscapeValue(String value) {
+    if (escapeCache == null || escapeCacheSize >= ESCAPE_CACHE_SIZE) {
+      escapeCache = JavaScriptObject.createObject().cast();
+      escapeCacheSize = 0;
+    }
+    String escaped = escapeCache.get(value);
+    if (escaped == null) {
+      escaped = JsonUtils.escapeValue(value);
+      escapeCache.put(value, escaped);
+      escapeCacheSize++;
+    }
+    return escaped;
   }
 
   private void newline() {
@@ -426,6 +544,10 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
       replaceTop( JsonScope.NONEMPTY_OBJECT);
       break;
 
+    case JsonScope.DANGLING_NAME_AND_SEPARATOR: // value for name token
+      replaceTop( JsonScope.NONEMPTY_OBJECT);
+      break;
+
     default:
       throw new IllegalStateException("Nesting problem.");
     }
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+/**
+ * Scans a JSON input given in successive chunks and extracts the complete values as soon as their last character is received.
+ * <p>The scanner only follows the structure of the input (nesting, strings and escapes) and keeps its state between two chunks so a chunk
+ * can end anywhere, even in the middle of a string. The extracted values are given to a {@link Listener} to be read by a
+ * {@link com.github.nmorel.gwtjackson.client.stream.JsonReader}, which validates them, including the separators inside them. The
+ * separators between the elements of the array are checked by the scanner. The characters of the values already extracted are
+ * released.</p>
+ * <p>Comments are not supported.</p>
+ *
+ * @author Nicolas Morel
+ */
+public class JsonChunkScanner {
+
+    /**
+     * Receives the values extracted by the scanner
+     */
+    public interface Listener {
+
+        /**
+         * @param json the complete JSON value
+         */
+        void onValue( String json );
+    }
+
+    private static final int EXPECT_DOCUMENT = 0;
+
+    private static final int IN_ARRAY = 1;
+
+    private static final int END = 2;
+
+    private static final int ARRAY_START = 0;
+
+    private static final int ARRAY_ELEMENT = 1;
+
+    private static final int ARRAY_COMMA = 2;
+
+    private final boolean arrayElements;
+
+    private final Listener listener;
+
+    /**
+     * Characters received and not released yet
+     */
+    private final StringBuilder buffer = new StringBuilder();
+
+    /**
+     * Position of the next character to scan in {@link #buffer}
+     */
+    private int pos = 0;
+
+    /**
+     * Position of the first character of the value currently scanned or -1 if we are between two values
+     */
+    private int valueStart = -1;
+
+    /**
+     * Nesting level inside the value currently scanned
+     */
+    private int depth = 0;
+
+    /**
+     * Quote of the string currently scanned or 0 if we are not in a string
+     */
+    private char quote = 0;
+
+    private boolean escaped = false;
+
+    private int state = EXPECT_DOCUMENT;
+
+    /**
+     * Last token read between the elements of the array, {@link #ARRAY_START}, {@link #ARRAY_ELEMENT} or {@link #ARRAY_COMMA}
+     */
+    private int arrayToken = ARRAY_START;
+
+    /**
+     * @param arrayElements true if the input is a JSON array whose elements must be extracted one by one, false to extract the whole input
+     * as a single value
+     * @param listener the listener receiving the extracted values
+     */
+    public JsonChunkScanner( boolean arrayElements, Listener listener ) {
+        this.arrayElements = arrayElements;
+        this.listener = listener;
+    }
+
+    /**
+     * Scans the next chunk of the input. The listener is called for each value completed by this chunk.
+     *
+     * @param chunk the next chunk of the input
+     */
+    public void feed( String chunk ) {
+        if ( state == END ) {
+            // the content following the value is ignored like the other readers do
+            return;
+        }
+        buffer.append( chunk );
+
+        int length = buffer.length();
+        while ( pos < length && state != END ) {
+            char c = buffer.charAt( pos );
+            if ( quote != 0 ) {
+                if ( escaped ) {
+                    escaped = false;
+                } else if ( c == '\\' ) {
+                    escaped = true;
+                } else if ( c == quote ) {
+                    quote = 0;
+                    if ( depth == 0 ) {
+                        emit( pos + 1 );
+                    }
+                }
+                pos++;
+                continue;
+            }
+
+            switch ( c ) {
+                case '"':
+                case '\'':
+                    startValue();
+                    quote = c;
+                    break;
+                case '{':
+                case '[':
+                    if ( arrayElements && state == EXPECT_DOCUMENT ) {
+                        if ( c != '[' ) {
+                            throw new MalformedJsonException( "Expected a JSON array but was " + c );
+                        }
+                        state = IN_ARRAY;
+                    } else {
+                        startValue();
+                        depth++;
+                    }
+                    break;
+                case '}':
+                case ']':
+                    if ( depth > 0 ) {
+                        depth--;
+                        if ( depth == 0 ) {
+                            emit( pos + 1 );
+                        }
+                    } else if ( c == ']' && state == IN_ARRAY ) {
+                        endScalar();
+                        if ( arrayToken == ARRAY_COMMA ) {
+                            throw new MalformedJsonException( "Unexpected ]" );
+                        }
+                        state = END;
+                    } else {
+                        throw new MalformedJsonException( "Unexpected " + c );
+                    }
+                    break;
+                case ',':
+                    if ( depth == 0 ) {
+                        if ( state != IN_ARRAY ) {
+                            throw new MalformedJsonException( "Unexpected ," );
+                        }
+                        endScalar();
+                        if ( arrayToken != ARRAY_ELEMENT ) {
+                            throw new MalformedJsonException( "Unexpected ," );
+                        }
+                        arrayToken = ARRAY_COMMA;
+                    }
+                    break;
+                case ' ':
+                case '\t':
+                case '\n':
+                case '\r':
+                    if ( depth == 0 ) {
+                        endScalar();
+                    }
+                    break;
+                default:
+                    // literal or number
+                    startValue();
+            }
+            pos++;
+        }
+
+        release();
+    }
+
+    /**
+     * Signals the end of the input. A top-level literal or number can only be extracted at this point.
+     */
+    public void end() {
+        if ( state == END ) {
+            return;
+        }
+        if ( quote != 0 || depth > 0 || state == IN_ARRAY ) {
+            throw new MalformedJsonException( "Unexpected end of input" );
+        }
+        endScalar();
+        if ( state != END ) {
+            throw new MalformedJsonException( "End of input" );
+        }
+    }
+
+    private void startValue() {
+        if ( valueStart >= 0 ) {
+            return;
+        }
+        if ( arrayElements && state == EXPECT_DOCUMENT ) {
+            throw new MalformedJsonException( "Expected a JSON array but was " + buffer.charAt( pos ) );
+        }
+        if ( arrayToken == ARRAY_ELEMENT ) {
+            throw new MalformedJsonException( "Expected , between the array elements but was " + buffer.charAt( pos ) );
+        }
+        valueStart = pos;
+    }
+
+    private void endScalar() {
+        if ( valueStart >= 0 ) {
+            emit( pos );
+        }
+    }
+
+    private void emit( int end ) {
+        String value = buffer.substring( valueStart, end );
+        valueStart = -1;
+        if ( arrayElements ) {
+            arrayToken = ARRAY_ELEMENT;
+        } else {
+            state = END;
+        }
+        listener.onValue( value );
+    }
+
+    /**
+     * Releases the characters we don't need anymore
+     */
+    private void release() {
+        if ( state == END ) {
+            buffer.setLength( 0 );
+            pos = 0;
+            return;
+        }
+        int keep = valueStart >= 0 ? valueStart : pos;
+        if ( keep > 0 ) {
+            buffer.delete( 0, keep );
+            pos -= keep;
+            if ( valueStart >= 0 ) {
+                valueStart -= keep;
+            }
+        }
+    }
+}
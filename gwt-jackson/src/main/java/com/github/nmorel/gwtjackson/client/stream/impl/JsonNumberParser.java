@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+import java.math.BigInteger;
+
+/**
+ * Number conversions shared by the readers that don't parse the input themselves. The rules are the same as the ones applied by
+ * {@link NonBufferedJsonReader} to a number read from a string.
+ *
+ * @author Nicolas Morel
+ */
+final class JsonNumberParser {
+
+    private static final long MIN_INT_L = (long) Integer.MIN_VALUE;
+
+    private static final long MAX_INT_L = (long) Integer.MAX_VALUE;
+
+    private static final BigInteger MIN_LONG_BIGINTEGER = new BigInteger( "" + Long.MIN_VALUE );
+
+    private static final BigInteger MAX_LONG_BIGINTEGER = new BigInteger( "" + Long.MAX_VALUE );
+
+    private JsonNumberParser() {}
+
+    static double parseDouble( String value, boolean lenient ) {
+        double result = Double.parseDouble( value );
+        if ( !lenient && (Double.isNaN( result ) || Double.isInfinite( result )) ) {
+            throw new MalformedJsonException( "JSON forbids NaN and infinities: " + result );
+        }
+        return result;
+    }
+
+    static long parseLong( String value ) {
+        try {
+            return Long.parseLong( value );
+        } catch ( NumberFormatException ignored ) {
+            // Fall back to parse as a double below.
+        }
+        double asDouble = Double.parseDouble( value );
+        long result = (long) asDouble;
+        if ( result != asDouble ) {
+            throw new NumberFormatException( "Expected a long but was " + value );
+        }
+        return result;
+    }
+
+    static int parseInt( String value ) {
+        try {
+            return Integer.parseInt( value );
+        } catch ( NumberFormatException ignored ) {
+            // Fall back to parse as a double below.
+        }
+        double asDouble = Double.parseDouble( value );
+        int result = (int) asDouble;
+        if ( result != asDouble ) {
+            throw new NumberFormatException( "Expected an int but was " + value );
+        }
+        return result;
+    }
+
+    /**
+     * @return a Double if the value contains a decimal point, the smallest of Integer, Long or BigInteger containing the value otherwise
+     */
+    static Number parseNumber( String value, boolean lenient ) {
+        if ( value.contains( "." ) ) {
+            return parseDouble( value, lenient );
+        }
+
+        int length = value.length();
+        if ( length <= 9 ) {
+            return Integer.parseInt( value );
+        } else if ( length <= 18 ) {
+            return narrow( Long.parseLong( value ) );
+        }
+        BigInteger result = new BigInteger( value );
+        if ( result.compareTo( MIN_LONG_BIGINTEGER ) >= 0 && result.compareTo( MAX_LONG_BIGINTEGER ) <= 0 ) {
+            return result.longValue();
+        }
+        return result;
+    }
+
+    /**
+     * @return an Integer if the value fits, a Long otherwise
+     */
+    static Number narrow( long value ) {
+        if ( value >= MIN_INT_L && value <= MAX_INT_L ) {
+            return (int) value;
+        }
+        return value;
+    }
+}
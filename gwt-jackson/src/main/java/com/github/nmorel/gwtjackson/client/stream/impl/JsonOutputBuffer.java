@@ -0,0 +1,329 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+import com.github.nmorel.gwtjackson.client.stream.JsonSink;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArrayString;
+
+/**
+ * Buffer receiving the output of a {@link FastJsonWriter}.
+ *
+ * @author Nicolas Morel
+ */
+public abstract class JsonOutputBuffer {
+
+    /**
+     * Strategies available to build the output.
+     */
+    public enum Type {
+        /**
+         * Appends the output to a {@link StringBuilder}, compiled to string concatenation.
+         */
+        STRING_BUILDER,
+
+        /**
+         * Collects the pieces of the output in a JavaScript array, joined once when the output is requested.
+         */
+        CHUNK_ARRAY,
+
+        /**
+         * Appends the output to a {@link StringBuilder} until it reaches {@link #CHUNK_SIZE} characters. Then the output is moved to a
+         * JavaScript array and a new chunk is started, the chunks are joined once when the output is requested.
+         */
+        ADAPTIVE
+    }
+
+    /**
+     * Size of the chunks built by the {@link Type#ADAPTIVE} buffer
+     */
+    public static final int CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * @param type strategy used to build the output
+     *
+     * @return a new empty buffer using the given strategy
+     */
+    public static JsonOutputBuffer create( Type type ) {
+        switch ( type ) {
+            case CHUNK_ARRAY:
+                return new ChunkArrayOutputBuffer();
+            case ADAPTIVE:
+                return new AdaptiveOutputBuffer();
+            default:
+                return new StringBuilderOutputBuffer( new StringBuilder() );
+        }
+    }
+
+    /**
+     * @param out the builder receiving the output
+     *
+     * @return a new buffer appending to the given builder
+     */
+    public static JsonOutputBuffer wrap( StringBuilder out ) {
+        return new StringBuilderOutputBuffer( out );
+    }
+
+    /**
+     * @param sink the sink receiving the output
+     * @param chunkSize size of the chunks given to the sink
+     *
+     * @return a new buffer giving its output to the sink each time it reaches {@code chunkSize} characters. A chunk ending with the
+     * first half of a surrogate pair is one character shorter, the pair is given whole in the next chunk.
+     */
+    public static JsonOutputBuffer sink( JsonSink sink, int chunkSize ) {
+        if ( null == sink ) {
+            throw new NullPointerException( "sink == null" );
+        }
+        if ( chunkSize <= 0 ) {
+            throw new IllegalArgumentException( "chunkSize must be positive, but was " + chunkSize );
+        }
+        return new SinkOutputBuffer( sink, chunkSize );
+    }
+
+    public abstract JsonOutputBuffer append( String s );
+
+    public abstract JsonOutputBuffer append( char c );
+
+    /**
+     * Appends the characters of {@code s} between {@code start} inclusive and {@code end} exclusive.
+     */
+    public abstract JsonOutputBuffer append( String s, int start, int end );
+
+    /**
+     * Discards the output.
+     */
+    public abstract void clear();
+
+    /**
+     * Gives the pending output to the underlying sink, if any.
+     */
+    public void flush() {
+    }
+
+    /**
+     * @return the output
+     */
+    @Override
+    public abstract String toString();
+
+    private static final class StringBuilderOutputBuffer extends JsonOutputBuffer {
+
+        private final StringBuilder out;
+
+        private StringBuilderOutputBuffer( StringBuilder out ) {
+            this.out = out;
+        }
+
+        @Override
+        public JsonOutputBuffer append( String s ) {
+            out.append( s );
+            return this;
+        }
+
+        @Override
+        public JsonOutputBuffer append( char c ) {
+            out.append( c );
+            return this;
+        }
+
+        @Override
+        public JsonOutputBuffer append( String s, int start, int end ) {
+            out.append( s, start, end );
+            return this;
+        }
+
+        @Override
+        public void clear() {
+            out.setLength( 0 );
+        }
+
+        @Override
+        public String toString() {
+            return out.toString();
+        }
+    }
+
+    private static final class ChunkArrayOutputBuffer extends JsonOutputBuffer {
+
+        private final JsArrayString chunks = JavaScriptObject.createArray().cast();
+
+        @Override
+        public JsonOutputBuffer append( String s ) {
+            chunks.push( s );
+            return this;
+        }
+
+        @Override
+        public JsonOutputBuffer append( char c ) {
+            chunks.push( String.valueOf( c ) );
+            return this;
+        }
+
+        @Override
+        public JsonOutputBuffer append( String s, int start, int end ) {
+            chunks.push( s.substring( start, end ) );
+            return this;
+        }
+
+        @Override
+        public void clear() {
+            chunks.setLength( 0 );
+        }
+
+        @Override
+        public String toString() {
+            return chunks.join( "" );
+        }
+    }
+
+    private static final class AdaptiveOutputBuffer extends JsonOutputBuffer {
+
+        private final StringBuilder current = new StringBuilder();
+
+        /**
+         * Chunks already built, null while the output is smaller than {@link #CHUNK_SIZE}
+         */
+        private JsArrayString chunks;
+
+        @Override
+        public JsonOutputBuffer append( String s ) {
+            current.append( s );
+            checkChunkSize();
+            return this;
+        }
+
+        @Override
+        public JsonOutputBuffer append( char c ) {
+            current.append( c );
+            checkChunkSize();
+            return this;
+        }
+
+        @Override
+        public JsonOutputBuffer append( String s, int start, int end ) {
+            current.append( s, start, end );
+            checkChunkSize();
+            return this;
+        }
+
+        private void checkChunkSize() {
+            if ( current.length() >= CHUNK_SIZE ) {
+                if ( null == chunks ) {
+                    chunks = JavaScriptObject.createArray().cast();
+                }
+                chunks.push( current.toString() );
+                current.setLength( 0 );
+            }
+        }
+
+        @Override
+        public void clear() {
+            current.setLength( 0 );
+            chunks = null;
+        }
+
+        @Override
+        public String toString() {
+            if ( null == chunks ) {
+                return current.toString();
+            }
+            chunks.push( current.toString() );
+            String output = chunks.join( "" );
+            // we keep the joined output as the only chunk so the output can be requested again
+            chunks.setLength( 0 );
+            chunks.push( output );
+            current.setLength( 0 );
+            return output;
+        }
+    }
+
+    private static final class SinkOutputBuffer extends JsonOutputBuffer {
+
+        private final JsonSink sink;
+
+        private final int chunkSize;
+
+        private final StringBuilder current = new StringBuilder();
+
+        private SinkOutputBuffer( JsonSink sink, int chunkSize ) {
+            this.sink = sink;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public JsonOutputBuffer append( String s ) {
+            current.append( s );
+            checkChunkSize();
+            return this;
+        }
+
+        @Override
+        public JsonOutputBuffer append( char c ) {
+            current.append( c );
+            checkChunkSize();
+            return this;
+        }
+
+        @Override
+        public JsonOutputBuffer append( String s, int start, int end ) {
+            current.append( s, start, end );
+            checkChunkSize();
+            return this;
+        }
+
+        private void checkChunkSize() {
+            int length = current.length();
+            if ( length >= chunkSize ) {
+                String output = current.toString();
+                int start = 0;
+                while ( length - start >= chunkSize ) {
+                    int end = start + chunkSize;
+                    if ( end - start > 1 && Character.isHighSurrogate( output.charAt( end - 1 ) ) ) {
+                        // the chunk ends one character earlier so the surrogate pair is not split across two chunks
+                        end--;
+                    }
+                    sink.write( output.substring( start, end ) );
+                    start = end;
+                }
+                current.setLength( 0 );
+                current.append( output, start, length );
+            }
+        }
+
+        @Override
+        public void clear() {
+            current.setLength( 0 );
+        }
+
+        @Override
+        public void flush() {
+            if ( current.length() > 0 ) {
+                sink.write( current.toString() );
+                current.setLength( 0 );
+            }
+        }
+
+        /**
+         * @return the output not given to the sink yet
+         */
+        @Override
+        public String toString() {
+            return current.toString();
+        }
+    }
+}
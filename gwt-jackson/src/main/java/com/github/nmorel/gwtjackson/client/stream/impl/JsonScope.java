@@ -48,6 +48,12 @@ final class JsonScope {
      */
     static final int DANGLING_NAME = 4;
 
+    /**
+     * An object whose most recent element is a key followed by its separator.
+     * The next element must be a value.
+     */
+    static final int DANGLING_NAME_AND_SEPARATOR = 9;
+
     /**
      * An object with at least one name/value pair requires a comma and
      * newline before the next element.
@@ -0,0 +1,547 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArray;
+import com.google.gwt.core.client.JsArrayInteger;
+
+/**
+ * {@link JsonReader} walking the tree built by the browser's native {@code JSON.parse}.
+ * <p>The input is parsed once by {@link #parse(String)} and the tokens are then produced from the resulting JavaScript values. Each object
+ * is flattened into an array of alternating names and values when the reader enters it so objects and arrays are both traversed by
+ * index.</p>
+ * <p>Only strict JSON is accepted by {@code JSON.parse}. The numbers are read from their JavaScript value : inputs containing an
+ * integer with more than 15 digits are rejected but the literal form is not kept ("1.50" is read back as "1.5", "1e3" as "1000").
+ * {@link #nextNumber()} returns a {@link Double} for the numbers written with a fraction or an exponent, like the other readers. An
+ * integral value can only be told apart from such a literal with the source text given by {@code JSON.parse} to its reviver, the inputs
+ * containing one are rejected when the browser doesn't give it. Properties with an integer-like name are visited first, in ascending
+ * order, as specified for JavaScript objects.</p>
+ *
+ * @author Nicolas Morel
+ */
+public class NativeJsonReader implements JsonReader {
+
+    private static final JsonToken[] TOKENS = JsonToken.values();
+
+    private static final int PEEKED_NONE = -1;
+
+    private static final int BEGIN_ARRAY = JsonToken.BEGIN_ARRAY.ordinal();
+
+    private static final int END_ARRAY = JsonToken.END_ARRAY.ordinal();
+
+    private static final int BEGIN_OBJECT = JsonToken.BEGIN_OBJECT.ordinal();
+
+    private static final int END_OBJECT = JsonToken.END_OBJECT.ordinal();
+
+    private static final int NAME = JsonToken.NAME.ordinal();
+
+    private static final int STRING = JsonToken.STRING.ordinal();
+
+    private static final int NUMBER = JsonToken.NUMBER.ordinal();
+
+    private static final int BOOLEAN = JsonToken.BOOLEAN.ordinal();
+
+    private static final int NULL = JsonToken.NULL.ordinal();
+
+    private static final int END_DOCUMENT = JsonToken.END_DOCUMENT.ordinal();
+
+    /**
+     * True if the browser gives the source text of the parsed values to the reviver of {@code JSON.parse}
+     */
+    private static final boolean SOURCE_TEXT_ACCESS = hasSourceTextAccess();
+
+    /**
+     * Parses the input with {@code JSON.parse}.
+     *
+     * @param input the JSON input
+     *
+     * @return a reader positioned at the beginning of the parsed value or null if the input is not strict JSON, contains an integer
+     * with more digits than a double can hold or an integral number written with a fraction or an exponent the reader can't tell apart
+     */
+    public static NativeJsonReader parse( String input ) {
+        String numbers = stripStrings( input );
+        if ( hasLongInteger( numbers ) ) {
+            // a double can't hold it, the input has to be tokenized to keep it
+            return null;
+        }
+        boolean decimals = hasIntegralDecimal( numbers );
+        if ( decimals && !SOURCE_TEXT_ACCESS ) {
+            return null;
+        }
+        JavaScriptObject document = parseDocument( input, decimals );
+        if ( null == document ) {
+            return null;
+        }
+        return new NativeJsonReader( input, document, decimals );
+    }
+
+    private static native boolean hasSourceTextAccess() /*-{
+        var supported = false;
+        JSON.parse('1', function (key, value, context) {
+            supported = !!context && typeof context.source === 'string';
+            return value;
+        });
+        return supported;
+    }-*/;
+
+    /**
+     * @return the input with the content of the strings removed, only the numbers and the structure are left
+     */
+    private static native String stripStrings( String input ) /*-{
+        return input.replace(/"(?:[^"\\]|\\[\s\S])*"/g, '""');
+    }-*/;
+
+    /**
+     * @return true if the input contains an integer literal with more than 15 digits
+     */
+    private static native boolean hasLongInteger( String numbers ) /*-{
+        return /(?:^|[^.0-9eE+\-])-?[0-9]{16,}(?![.0-9eE])/.test(numbers);
+    }-*/;
+
+    /**
+     * @return true if the input contains a literal that can be integral but is read as a double by the other readers : a fraction made
+     * of zeros or an exponent
+     */
+    private static native boolean hasIntegralDecimal( String numbers ) /*-{
+        return /\.0+(?![0-9])|[0-9][eE]/.test(numbers);
+    }-*/;
+
+    /**
+     * @param decimals true to box the integral numbers written as decimals, so they can be told apart from the integers
+     *
+     * @return an array containing the parsed value as single element or null if the input can't be parsed
+     */
+    private static native JavaScriptObject parseDocument( String input, boolean decimals ) /*-{
+        try {
+            if (!decimals) {
+                return [JSON.parse(input)];
+            }
+            return [JSON.parse(input, function (key, value, context) {
+                if (typeof value === 'number' && value % 1 === 0 && /[.eE]/.test(context.source)) {
+                    return new Number(value);
+                }
+                return value;
+            })];
+        } catch (e) {
+            return null;
+        }
+    }-*/;
+
+    private static native int tokenAt( JavaScriptObject array, int index ) /*-{
+        var value = array[index];
+        if (value === null || value === undefined) {
+            return @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonReader::NULL;
+        }
+        if (value instanceof Number) {
+            return @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonReader::NUMBER;
+        }
+        switch (typeof value) {
+            case 'string':
+                return @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonReader::STRING;
+            case 'number':
+                return @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonReader::NUMBER;
+            case 'boolean':
+                return @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonReader::BOOLEAN;
+        }
+        if (Object.prototype.toString.call(value) === '[object Array]') {
+            return @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonReader::BEGIN_ARRAY;
+        }
+        return @com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonReader::BEGIN_OBJECT;
+    }-*/;
+
+    private static native String stringAt( JavaScriptObject array, int index ) /*-{
+        return '' + array[index];
+    }-*/;
+
+    private static native double numberAt( JavaScriptObject array, int index ) /*-{
+        return +array[index];
+    }-*/;
+
+    /**
+     * @return true if the number was written with a fraction or an exponent
+     */
+    private static native boolean isDecimalAt( JavaScriptObject array, int index ) /*-{
+        return array[index] instanceof Number;
+    }-*/;
+
+    private static native boolean booleanAt( JavaScriptObject array, int index ) /*-{
+        return array[index];
+    }-*/;
+
+    private static native JavaScriptObject objectAt( JavaScriptObject array, int index ) /*-{
+        return array[index];
+    }-*/;
+
+    private static native String stringifyAt( JavaScriptObject array, int index ) /*-{
+        return JSON.stringify(array[index]);
+    }-*/;
+
+    /**
+     * @return a copy of the value without the boxed numbers
+     */
+    private static native JavaScriptObject copyAt( JavaScriptObject array, int index ) /*-{
+        return JSON.parse(JSON.stringify(array[index]));
+    }-*/;
+
+    private static native int length( JavaScriptObject array ) /*-{
+        return array.length;
+    }-*/;
+
+    /**
+     * @return an array containing the name and the value of each property of the object
+     */
+    private static native JavaScriptObject entries( JavaScriptObject object ) /*-{
+        var entries = [];
+        for (var name in object) {
+            if (Object.prototype.hasOwnProperty.call(object, name)) {
+                entries.push(name, object[name]);
+            }
+        }
+        return entries;
+    }-*/;
+
+    private final String input;
+
+    /**
+     * True if the integral numbers written as decimals are boxed in the parsed value
+     */
+    private final boolean decimals;
+
+    /**
+     * Array or flattened object currently read
+     */
+    private JavaScriptObject current;
+
+    /**
+     * True if {@link #current} is a flattened object. The names are at the even positions and the values at the odd ones.
+     */
+    private boolean inObject;
+
+    private int pos;
+
+    private int limit;
+
+    private int peeked = PEEKED_NONE;
+
+    /**
+     * Containers enclosing {@link #current}. The first one is the document.
+     */
+    private final JsArray<JavaScriptObject> stack = JsArray.createArray().cast();
+
+    /**
+     * Position to resume at in each enclosing container, negated if the container is an object
+     */
+    private final JsArrayInteger positions = JsArrayInteger.createArray().cast();
+
+    private int stackSize = 0;
+
+    private boolean closed = false;
+
+    private boolean lenient = false;
+
+    private NativeJsonReader( String input, JavaScriptObject document, boolean decimals ) {
+        this.input = input;
+        this.decimals = decimals;
+        this.current = document;
+        this.inObject = false;
+        this.pos = 0;
+        this.limit = 1;
+    }
+
+    @Override
+    public void setLenient( boolean lenient ) {
+        this.lenient = lenient;
+    }
+
+    @Override
+    public void beginArray() {
+        enter( BEGIN_ARRAY );
+    }
+
+    @Override
+    public void endArray() {
+        exit( END_ARRAY );
+    }
+
+    @Override
+    public void beginObject() {
+        enter( BEGIN_OBJECT );
+    }
+
+    @Override
+    public void endObject() {
+        exit( END_OBJECT );
+    }
+
+    @Override
+    public boolean hasNext() {
+        int p = doPeek();
+        return p != END_OBJECT && p != END_ARRAY;
+    }
+
+    @Override
+    public JsonToken peek() {
+        return TOKENS[doPeek()];
+    }
+
+    private int doPeek() {
+        if ( closed ) {
+            throw new IllegalStateException( "JsonReader is closed" );
+        }
+        if ( peeked != PEEKED_NONE ) {
+            return peeked;
+        }
+        if ( pos == limit ) {
+            if ( stackSize == 0 ) {
+                peeked = END_DOCUMENT;
+            } else {
+                peeked = inObject ? END_OBJECT : END_ARRAY;
+            }
+        } else if ( inObject && (pos & 1) == 0 ) {
+            peeked = NAME;
+        } else {
+            peeked = tokenAt( current, pos );
+        }
+        return peeked;
+    }
+
+    @Override
+    public String nextName() {
+        expect( NAME, "a name" );
+        return stringAt( current, advance() );
+    }
+
+    @Override
+    public String nextName( String expected ) {
+        String name = nextName();
+        return expected.equals( name ) ? expected : name;
+    }
+
+    @Override
+    public String nextString() {
+        int p = doPeek();
+        if ( p != STRING && p != NUMBER ) {
+            throw unexpected( "a string" );
+        }
+        return stringAt( current, advance() );
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        expect( BOOLEAN, "a boolean" );
+        return booleanAt( current, advance() );
+    }
+
+    @Override
+    public void nextNull() {
+        expect( NULL, "null" );
+        advance();
+    }
+
+    @Override
+    public double nextDouble() {
+        int p = doPeek();
+        if ( p == NUMBER ) {
+            return numberAt( current, advance() );
+        }
+        if ( p != STRING ) {
+            throw unexpected( "a double" );
+        }
+        double result = JsonNumberParser.parseDouble( stringAt( current, pos ), lenient );
+        advance();
+        return result;
+    }
+
+    @Override
+    public long nextLong() {
+        int p = doPeek();
+        if ( p == NUMBER ) {
+            double value = numberAt( current, pos );
+            long result = (long) value;
+            if ( result != value ) {
+                throw new NumberFormatException( "Expected a long but was " + stringAt( current, pos ) );
+            }
+            advance();
+            return result;
+        }
+        if ( p != STRING ) {
+            throw unexpected( "a long" );
+        }
+        long result = JsonNumberParser.parseLong( stringAt( current, pos ) );
+        advance();
+        return result;
+    }
+
+    @Override
+    public int nextInt() {
+        int p = doPeek();
+        if ( p == NUMBER ) {
+            double value = numberAt( current, pos );
+            int result = (int) value;
+            if ( result != value ) {
+                throw new NumberFormatException( "Expected an int but was " + stringAt( current, pos ) );
+            }
+            advance();
+            return result;
+        }
+        if ( p != STRING ) {
+            throw unexpected( "an int" );
+        }
+        int result = JsonNumberParser.parseInt( stringAt( current, pos ) );
+        advance();
+        return result;
+    }
+
+    @Override
+    public Number nextNumber() {
+        int p = doPeek();
+        if ( p == NUMBER ) {
+            // the integral numbers written with a fraction or an exponent are boxed and stay doubles
+            boolean decimal = decimals && isDecimalAt( current, pos );
+            double value = numberAt( current, advance() );
+            long asLong = (long) value;
+            if ( !decimal && asLong == value ) {
+                return JsonNumberParser.narrow( asLong );
+            }
+            return value;
+        }
+        if ( p != STRING ) {
+            throw unexpected( "a number" );
+        }
+        Number result = JsonNumberParser.parseNumber( stringAt( current, pos ), lenient );
+        advance();
+        return result;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        peeked = PEEKED_NONE;
+        current = null;
+    }
+
+    @Override
+    public void skipValue() {
+        int p = doPeek();
+        if ( p == END_ARRAY || p == END_OBJECT ) {
+            exit( p );
+        } else if ( p != END_DOCUMENT ) {
+            // the whole subtree is skipped at once
+            advance();
+        }
+    }
+
+    @Override
+    public String nextValue() {
+        int p = doPeek();
+        if ( p == NAME || p == END_ARRAY || p == END_OBJECT || p == END_DOCUMENT ) {
+            throw unexpected( "a value" );
+        }
+        return stringifyAt( current, advance() );
+    }
+
+    /**
+     * The position in the input is not tracked by this reader.
+     *
+     * @return 0
+     */
+    @Override
+    public int getLineNumber() {
+        return 0;
+    }
+
+    /**
+     * The position in the input is not tracked by this reader.
+     *
+     * @return 0
+     */
+    @Override
+    public int getColumnNumber() {
+        return 0;
+    }
+
+    @Override
+    public String getInput() {
+        return input;
+    }
+
+    /**
+     * The value has already been parsed so it is returned as is and {@code useSafeEval} is ignored. If the input contains boxed
+     * numbers, a copy without them is returned.
+     */
+    @Override
+    public JavaScriptObject nextJavaScriptObject( boolean useSafeEval ) {
+        int p = doPeek();
+        if ( p != BEGIN_OBJECT && p != BEGIN_ARRAY ) {
+            throw unexpected( "an array or object to evaluate a JavaScriptObject" );
+        }
+        if ( decimals ) {
+            return copyAt( current, advance() );
+        }
+        return objectAt( current, advance() );
+    }
+
+    /**
+     * Moves to the next position.
+     *
+     * @return the position of the token consumed
+     */
+    private int advance() {
+        peeked = PEEKED_NONE;
+        return pos++;
+    }
+
+    private void expect( int token, String expected ) {
+        if ( doPeek() != token ) {
+            throw unexpected( expected );
+        }
+    }
+
+    private void enter( int token ) {
+        boolean object = token == BEGIN_OBJECT;
+        expect( token, object ? "BEGIN_OBJECT" : "BEGIN_ARRAY" );
+        JavaScriptObject value = objectAt( current, advance() );
+
+        stack.set( stackSize, current );
+        positions.set( stackSize, inObject ? -pos - 1 : pos );
+        stackSize++;
+
+        current = object ? entries( value ) : value;
+        inObject = object;
+        pos = 0;
+        limit = length( current );
+    }
+
+    private void exit( int token ) {
+        expect( token, token == END_OBJECT ? "END_OBJECT" : "END_ARRAY" );
+        stackSize--;
+        current = stack.get( stackSize );
+        stack.set( stackSize, null );
+        int position = positions.get( stackSize );
+        inObject = position < 0;
+        pos = inObject ? -position - 1 : position;
+        limit = length( current );
+        peeked = PEEKED_NONE;
+    }
+
+    private IllegalStateException unexpected( String expected ) {
+        return new IllegalStateException( "Expected " + expected + " but was " + peek() );
+    }
+}
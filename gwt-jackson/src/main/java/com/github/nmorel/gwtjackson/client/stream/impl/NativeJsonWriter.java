@@ -0,0 +1,428 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.github.nmorel.gwtjackson.client.exception.JsonSerializationException;
+import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArray;
+import com.google.gwt.core.client.JsArrayInteger;
+import com.google.gwt.core.client.JsArrayString;
+
+/**
+ * {@link JsonWriter} building a tree of JavaScript objects and arrays. The output is produced by a single call to the native {@code
+ * JSON.stringify}, the tree itself can be retrieved with {@link #getOutputObject()}.
+ * <p>The names are the keys of JavaScript objects so the integer-like names are written first by {@code JSON.stringify} and a repeated
+ * name keeps only its last value.</p>
+ * <p>The values that must be written exactly as they are (raw values, {@link java.math.BigDecimal}, longs a double can't hold) are kept
+ * as text and inserted in the output after {@code JSON.stringify}.</p>
+ *
+ * @author Nicolas Morel
+ */
+public class NativeJsonWriter implements JsonWriter {
+
+    private static final Logger logger = Logger.getLogger( "JsonWriter" );
+
+    /**
+     * Greatest integer a double can hold exactly
+     */
+    private static final long MAX_SAFE_INTEGER = 9007199254740991L;
+
+    /**
+     * Prefix of the strings standing in for the raw values in the tree
+     */
+    private static final String RAW_VALUE_PREFIX = "\u0000raw";
+
+    private static native JavaScriptObject newObject() /*-{
+        return {};
+    }-*/;
+
+    private static native JavaScriptObject newArray() /*-{
+        return [];
+    }-*/;
+
+    private static native void add( JavaScriptObject container, String name, String value ) /*-{
+        if (name === null) {
+            container.push(value);
+        } else {
+            container[name] = value;
+        }
+    }-*/;
+
+    private static native void add( JavaScriptObject container, String name, double value ) /*-{
+        if (name === null) {
+            container.push(value);
+        } else {
+            container[name] = value;
+        }
+    }-*/;
+
+    private static native void add( JavaScriptObject container, String name, boolean value ) /*-{
+        if (name === null) {
+            container.push(value);
+        } else {
+            container[name] = value;
+        }
+    }-*/;
+
+    private static native void add( JavaScriptObject container, String name, JavaScriptObject value ) /*-{
+        if (name === null) {
+            container.push(value);
+        } else {
+            container[name] = value;
+        }
+    }-*/;
+
+    private static native String stringify( JavaScriptObject document, String indent, String prefix, JsArrayString rawValues ) /*-{
+        var output = '';
+        for (var i = 0; i < document.length; i++) {
+            output += JSON.stringify(document[i], null, indent);
+        }
+        // valid in JSON but not in JavaScript strings
+        output = output.replace(/\u2028/g, '\\u2028').replace(/\u2029/g, '\\u2029');
+        if (rawValues.length > 0) {
+            // JSON.stringify escapes the control character starting the placeholders
+            var placeholder = new RegExp('"' + JSON.stringify(prefix).slice(1, -1).replace(/\\/g, '\\\\') + '(\\d+)"', 'g');
+            output = output.replace(placeholder, function (match, index) {
+                return rawValues[index];
+            });
+        }
+        return output;
+    }-*/;
+
+    private static native String quote( String value ) /*-{
+        return JSON.stringify(value);
+    }-*/;
+
+    private static native JavaScriptObject parse( String json ) /*-{
+        return JSON.parse(json);
+    }-*/;
+
+    private static native boolean isObject( JavaScriptObject document ) /*-{
+        return document.length == 1 && document[0] !== null && typeof document[0] === 'object';
+    }-*/;
+
+    private static native JavaScriptObject first( JavaScriptObject document ) /*-{
+        return document[0];
+    }-*/;
+
+    /**
+     * Array containing the root value as single element, or the root values in lenient mode
+     */
+    private final JavaScriptObject document = newArray();
+
+    private JsArray<JavaScriptObject> stack = JavaScriptObject.createArray().cast();
+
+    /**
+     * Scope of each container in the stack, {@link JsonScope#EMPTY_DOCUMENT}, {@link JsonScope#EMPTY_ARRAY} or {@link
+     * JsonScope#EMPTY_OBJECT}
+     */
+    private JsArrayInteger scopes = JavaScriptObject.createArray().cast();
+
+    private int stackSize = 0;
+
+    private final JsArrayString rawValues = JavaScriptObject.createArray().cast();
+
+    private String indent = "";
+
+    private boolean lenient;
+
+    private String deferredName;
+
+    private boolean serializeNulls = true;
+
+    public NativeJsonWriter() {
+        push( document, JsonScope.EMPTY_DOCUMENT );
+    }
+
+    @Override
+    public void setIndent( String indent ) {
+        this.indent = indent;
+    }
+
+    @Override
+    public void setLenient( boolean lenient ) {
+        this.lenient = lenient;
+    }
+
+    @Override
+    public void setSerializeNulls( boolean serializeNulls ) {
+        this.serializeNulls = serializeNulls;
+    }
+
+    @Override
+    public boolean getSerializeNulls() {
+        return serializeNulls;
+    }
+
+    @Override
+    public NativeJsonWriter beginArray() {
+        JavaScriptObject array = newArray();
+        add( currentContainer(), beforeValue( true ), array );
+        push( array, JsonScope.EMPTY_ARRAY );
+        return this;
+    }
+
+    @Override
+    public NativeJsonWriter endArray() {
+        return close( JsonScope.EMPTY_ARRAY );
+    }
+
+    @Override
+    public NativeJsonWriter beginObject() {
+        JavaScriptObject object = newObject();
+        add( currentContainer(), beforeValue( true ), object );
+        push( object, JsonScope.EMPTY_OBJECT );
+        return this;
+    }
+
+    @Override
+    public NativeJsonWriter endObject() {
+        return close( JsonScope.EMPTY_OBJECT );
+    }
+
+    private void push( JavaScriptObject container, int scope ) {
+        stack.set( stackSize, container );
+        scopes.set( stackSize, scope );
+        stackSize++;
+    }
+
+    private NativeJsonWriter close( int scope ) {
+        if ( currentScope() != scope ) {
+            throw new IllegalStateException( "Nesting problem." );
+        }
+        if ( deferredName != null ) {
+            throw new IllegalStateException( "Dangling name: " + deferredName );
+        }
+        stackSize--;
+        return this;
+    }
+
+    private JavaScriptObject currentContainer() {
+        return stack.get( stackSize - 1 );
+    }
+
+    private int currentScope() {
+        if ( stackSize == 0 ) {
+            throw new IllegalStateException( "JsonWriter is closed." );
+        }
+        return scopes.get( stackSize - 1 );
+    }
+
+    /**
+     * Checks a value can be written in the current container.
+     *
+     * @param root true if the value is a new array or object, the two values permitted as top-level elements.
+     *
+     * @return the name of the value in the current object or null if the current container is an array
+     */
+    private String beforeValue( boolean root ) {
+        switch ( currentScope() ) {
+            case JsonScope.EMPTY_OBJECT:
+                if ( deferredName == null ) {
+                    throw new IllegalStateException( "Nesting problem." );
+                }
+                String name = deferredName;
+                deferredName = null;
+                return name;
+
+            case JsonScope.EMPTY_ARRAY:
+                return null;
+
+            case JsonScope.EMPTY_DOCUMENT:
+                if ( !lenient && !root ) {
+                    throw new IllegalStateException( "JSON must start with an array or an object." );
+                }
+                scopes.set( stackSize - 1, JsonScope.NONEMPTY_DOCUMENT );
+                return null;
+
+            case JsonScope.NONEMPTY_DOCUMENT:
+                if ( !lenient ) {
+                    throw new IllegalStateException( "JSON must have only one top-level value." );
+                }
+                return null;
+
+            default:
+                throw new IllegalStateException( "Nesting problem." );
+        }
+    }
+
+    @Override
+    public NativeJsonWriter name( String name ) {
+        if ( name == null ) {
+            throw new NullPointerException( "name == null" );
+        }
+        if ( deferredName != null ) {
+            throw new IllegalStateException();
+        }
+        if ( stackSize == 0 ) {
+            throw new IllegalStateException( "JsonWriter is closed." );
+        }
+        deferredName = name;
+        return this;
+    }
+
+    @Override
+    public NativeJsonWriter unescapeName( String name ) {
+        return name( name );
+    }
+
+    @Override
+    public NativeJsonWriter nameToken( String token ) {
+        return name( token.substring( 2, token.length() - 2 ) );
+    }
+
+    @Override
+    public NativeJsonWriter value( String value ) {
+        if ( value == null ) {
+            return nullValue();
+        }
+        if ( value.startsWith( RAW_VALUE_PREFIX ) ) {
+            // the string would be taken for a placeholder
+            return rawValue( quote( value ) );
+        }
+        add( currentContainer(), beforeValue( false ), value );
+        return this;
+    }
+
+    @Override
+    public NativeJsonWriter unescapeValue( String value ) {
+        return value( value );
+    }
+
+    @Override
+    public NativeJsonWriter nullValue() {
+        if ( deferredName != null && !serializeNulls ) {
+            // skip the name and the value
+            deferredName = null;
+            return this;
+        }
+        add( currentContainer(), beforeValue( false ), (JavaScriptObject) null );
+        return this;
+    }
+
+    @Override
+    public NativeJsonWriter cancelName() {
+        deferredName = null;
+        return this;
+    }
+
+    @Override
+    public NativeJsonWriter value( boolean value ) {
+        add( currentContainer(), beforeValue( false ), value );
+        return this;
+    }
+
+    @Override
+    public NativeJsonWriter value( double value ) {
+        if ( Double.isNaN( value ) || Double.isInfinite( value ) ) {
+            throw new IllegalArgumentException( "Numeric values must be finite, but was " + value );
+        }
+        add( currentContainer(), beforeValue( false ), value );
+        return this;
+    }
+
+    @Override
+    public NativeJsonWriter value( long value ) {
+        if ( value > MAX_SAFE_INTEGER || value < -MAX_SAFE_INTEGER ) {
+            return rawValue( Long.toString( value ) );
+        }
+        add( currentContainer(), beforeValue( false ), (double) value );
+        return this;
+    }
+
+    @Override
+    public NativeJsonWriter value( Number value ) {
+        if ( value == null ) {
+            return nullValue();
+        }
+        if ( value instanceof Long ) {
+            return value( value.longValue() );
+        }
+        if ( value instanceof Double || value instanceof Float || value instanceof Integer || value instanceof Short || value instanceof
+                Byte ) {
+            double d = value.doubleValue();
+            if ( !Double.isNaN( d ) && !Double.isInfinite( d ) ) {
+                return value( d );
+            }
+            if ( !lenient ) {
+                throw new IllegalArgumentException( "Numeric values must be finite, but was " + value );
+            }
+        }
+        // BigDecimal and BigInteger are written as is to keep their precision
+        return rawValue( value );
+    }
+
+    @Override
+    public NativeJsonWriter value( JavaScriptObject value ) {
+        if ( value == null ) {
+            return nullValue();
+        }
+        add( currentContainer(), beforeValue( false ), value );
+        return this;
+    }
+
+    @Override
+    public NativeJsonWriter rawValue( Object value ) {
+        if ( value == null ) {
+            return nullValue();
+        }
+        add( currentContainer(), beforeValue( false ), RAW_VALUE_PREFIX + rawValues.length() );
+        rawValues.push( value.toString() );
+        return this;
+    }
+
+    @Override
+    public void flush() {
+        if ( stackSize == 0 ) {
+            throw new IllegalStateException( "JsonWriter is closed." );
+        }
+    }
+
+    @Override
+    public void close() {
+        if ( stackSize > 1 || stackSize == 1 && scopes.get( 0 ) != JsonScope.NONEMPTY_DOCUMENT ) {
+            logger.log( Level.SEVERE, "Incomplete document" );
+            throw new JsonSerializationException( "Incomplete document" );
+        }
+        stackSize = 0;
+    }
+
+    @Override
+    public String getOutput() {
+        return stringify( document, indent, RAW_VALUE_PREFIX, rawValues );
+    }
+
+    /**
+     * Returns the tree built by this writer. If raw values have been written, the output is parsed again to get their value.
+     *
+     * @return the root object or array
+     * @throws IllegalStateException if the root value is not an object or an array
+     */
+    public JavaScriptObject getOutputObject() {
+        if ( !isObject( document ) ) {
+            throw new IllegalStateException( "The root value is not an object or an array" );
+        }
+        if ( rawValues.length() > 0 ) {
+            return parse( getOutput() );
+        }
+        return first( document );
+    }
+}
@@ -238,13 +238,13 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
   private static final int NUMBER_CHAR_EXP_DIGIT = 7;
 
   /** The input JSON. */
-  private final String in;
+  private String in;
 
   /** True to accept non-spec compliant JSON */
   private boolean lenient = false;
 
   private int pos = 0;
-  private final int limit;
+  private int limit;
 
   private int lineNumber = 0;
   private int lineStart = 0;
@@ -283,6 +283,25 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
    * Creates a new instance that reads a JSON-encoded stream from {@code in}.
    */
   public NonBufferedJsonReader( String in ) {
+    init( in );
+  }
+
+  /**
+   * Discards the state of the previous read and starts reading {@code in}.
+   * The leniency is kept.
+   */
+  public void reset( String in ) {
+    pos = 0;
+    lineNumber = 0;
+    lineStart = 0;
+    peeked = PEEKED_NONE;
+    peekedString = null;
+    stackSize = 0;
+    stack.set(stackSize++, JsonScope.EMPTY_DOCUMENT);
+    init( in );
+  }
+
+  private void init( String in ) {
     if (in == null) {
       throw new NullPointerException("in == null");
     }
@@ -775,6 +794,43 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
     return result;
   }
 
+  @Override
+  public String nextName(String expected)
+  {
+    int p = peeked;
+    if (p == PEEKED_NONE) {
+      p = doPeek();
+    }
+    if (p == PEEKED_DOUBLE_QUOTED_NAME && isNextQuotedValue(expected)) {
+      pos += expected.length() + 1;
+      peeked = PEEKED_NONE;
+      return expected;
+    }
+    String result = nextName();
+    return result.equals(expected) ? expected : result;
+  }
+
+  /**
+   * Returns true if the double quoted value at the current position is exactly
+   * {@code value}. The input is compared directly so no string is created.
+   */
+  private boolean isNextQuotedValue(String value)
+  {
+    int length = value.length();
+    int end = pos + length;
+    if (end >= limit || in.charAt(end) != '"') {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      char c = in.charAt(pos + i);
+      // escape sequences and line feeds are left to nextQuotedValue
+      if (c != value.charAt(i) || c == '\\' || c == '"' || c == '\n') {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   public String nextString()
   {
@@ -928,7 +984,8 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
   private String nextQuotedValue(char quote)
   {
     // Like nextNonWhitespace, this uses locals 'p' and 'l' to save inner-loop field access.
-    StringBuilder builder = new StringBuilder();
+    // The builder is only created when an escape sequence is found, most strings are a plain substring of the input.
+    StringBuilder builder = null;
     int p = pos;
     /* the index of the first character not yet appended to the builder. */
     int start = p;
@@ -937,11 +994,17 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
 
       if (c == quote) {
         pos = p;
-        builder.append(in.substring(start, p - 1));
+        if (builder == null) {
+          return in.substring(start, p - 1);
+        }
+        builder.append(in, start, p - 1);
         return builder.toString();
       } else if (c == '\\') {
         pos = p;
-        builder.append(in.substring(start, p - 1));
+        if (builder == null) {
+          builder = new StringBuilder();
+        }
+        builder.append(in, start, p - 1);
         builder.append(readEscapeCharacter());
         p = pos;
         start = p;
@@ -1404,8 +1467,24 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
       return "null";
     }
 
-    // TODO rewrite to avoid using a JsonWriter
-    // we should be able to write the tree without escaping/unescaping
+    if (!lenient) {
+      // A strict input is already valid JSON so we just have to find where the value ends and return it as is,
+      // without unescaping and escaping it again through a JsonWriter.
+      switch (p) {
+      case PEEKED_BEGIN_OBJECT:
+      case PEEKED_BEGIN_ARRAY:
+      case PEEKED_DOUBLE_QUOTED:
+        // the opening character has already been consumed by doPeek
+        return captureValue( pos - 1 );
+      case PEEKED_NUMBER:
+        return captureValue( pos );
+      default:
+        // the other scalar values are already consumed by doPeek, we rewrite them below
+      }
+    }
+
+    // lenient inputs may contain non-standard tokens (single quotes, unquoted strings, comments...) so we rewrite the
+    // value to get a valid JSON
     JsonWriter writer = new FastJsonWriter( new StringBuilder() );
     writer.setLenient( true );
 
@@ -1463,6 +1542,17 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
     return writer.getOutput();
   }
 
+  /**
+   * Skips the next value and returns the part of the input between {@code start} and the end of the value.
+   *
+   * @param start the index of the first character of the value
+   */
+  private String captureValue(int start)
+  {
+    skipValue();
+    return in.substring(start, pos);
+  }
+
   @Override
   public Number nextNumber()
   {
@@ -0,0 +1,390 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArrayInteger;
+import com.google.gwt.core.client.JsArrayString;
+import com.google.gwt.core.client.JsonUtils;
+
+/**
+ * {@link JsonReader} replaying tokens previously recorded from another {@link JsonReader}.
+ * <p>Values are recorded with {@link #record(JsonReader)} while the source reader goes through them and can be read again later with
+ * {@link #replay(int, int)} without tokenizing the input a second time.</p>
+ *
+ * @author Nicolas Morel
+ */
+public class TokenBufferJsonReader implements JsonReader {
+
+    private static final JsonToken[] TOKENS = JsonToken.values();
+
+    private static final int BEGIN_ARRAY = JsonToken.BEGIN_ARRAY.ordinal();
+
+    private static final int END_ARRAY = JsonToken.END_ARRAY.ordinal();
+
+    private static final int BEGIN_OBJECT = JsonToken.BEGIN_OBJECT.ordinal();
+
+    private static final int END_OBJECT = JsonToken.END_OBJECT.ordinal();
+
+    private static final int NAME = JsonToken.NAME.ordinal();
+
+    private static final int STRING = JsonToken.STRING.ordinal();
+
+    private static final int NUMBER = JsonToken.NUMBER.ordinal();
+
+    private static final int BOOLEAN = JsonToken.BOOLEAN.ordinal();
+
+    private static final int NULL = JsonToken.NULL.ordinal();
+
+    /**
+     * Reader the tokens are recorded from. Used to report the input and the position in case of error.
+     */
+    private final JsonReader source;
+
+    /**
+     * Ordinal of the {@link JsonToken} of each recorded token
+     */
+    private final JsArrayInteger tokens = JsArrayInteger.createArray().cast();
+
+    /**
+     * Name, string value or number literal of each recorded token. Null for the other tokens.
+     */
+    private final JsArrayString values = JsArrayString.createArray().cast();
+
+    private int size = 0;
+
+    private int pos = 0;
+
+    private int limit = 0;
+
+    private boolean lenient;
+
+    /**
+     * @param source the reader the tokens will be recorded from
+     */
+    public TokenBufferJsonReader( JsonReader source ) {
+        this.source = source;
+    }
+
+    /**
+     * Records the next value of the given reader. If it is an object or array, all nested elements are recorded.
+     *
+     * @param reader the reader to record the value from
+     *
+     * @return the index of the first token of the value. The index of the token following the value is given by {@link #size()}.
+     */
+    public int record( JsonReader reader ) {
+        int start = size;
+        int count = 0;
+        do {
+            JsonToken token = reader.peek();
+            switch ( token ) {
+                case BEGIN_ARRAY:
+                    reader.beginArray();
+                    add( BEGIN_ARRAY, null );
+                    count++;
+                    break;
+                case END_ARRAY:
+                    reader.endArray();
+                    add( END_ARRAY, null );
+                    count--;
+                    break;
+                case BEGIN_OBJECT:
+                    reader.beginObject();
+                    add( BEGIN_OBJECT, null );
+                    count++;
+                    break;
+                case END_OBJECT:
+                    reader.endObject();
+                    add( END_OBJECT, null );
+                    count--;
+                    break;
+                case NAME:
+                    add( NAME, reader.nextName() );
+                    break;
+                case STRING:
+                    add( STRING, reader.nextString() );
+                    break;
+                case NUMBER:
+                    // we keep the literal to parse it later as the type expected by the deserializer
+                    add( NUMBER, reader.nextString() );
+                    break;
+                case BOOLEAN:
+                    add( BOOLEAN, reader.nextBoolean() ? "true" : "false" );
+                    break;
+                case NULL:
+                    reader.nextNull();
+                    add( NULL, null );
+                    break;
+                default:
+                    throw new IllegalStateException( "Expected a value but was " + token + " at line " + reader
+                            .getLineNumber() + " column " + reader.getColumnNumber() );
+            }
+        } while ( count != 0 );
+        return start;
+    }
+
+    private void add( int token, String value ) {
+        tokens.set( size, token );
+        values.set( size, value );
+        size++;
+    }
+
+    /**
+     * @return the number of recorded tokens
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Positions the reader to replay the tokens between {@code start} (inclusive) and {@code end} (exclusive).
+     *
+     * @param start index of the first token to replay
+     * @param end index of the token following the last token to replay
+     */
+    public void replay( int start, int end ) {
+        this.pos = start;
+        this.limit = end;
+    }
+
+    @Override
+    public void setLenient( boolean lenient ) {
+        this.lenient = lenient;
+    }
+
+    @Override
+    public void beginArray() {
+        consume( BEGIN_ARRAY );
+    }
+
+    @Override
+    public void endArray() {
+        consume( END_ARRAY );
+    }
+
+    @Override
+    public void beginObject() {
+        consume( BEGIN_OBJECT );
+    }
+
+    @Override
+    public void endObject() {
+        consume( END_OBJECT );
+    }
+
+    @Override
+    public boolean hasNext() {
+        if ( pos == limit ) {
+            return true;
+        }
+        int token = tokens.get( pos );
+        return token != END_OBJECT && token != END_ARRAY;
+    }
+
+    @Override
+    public JsonToken peek() {
+        if ( pos == limit ) {
+            return JsonToken.END_DOCUMENT;
+        }
+        return TOKENS[tokens.get( pos )];
+    }
+
+    @Override
+    public String nextName() {
+        return consume( NAME );
+    }
+
+    @Override
+    public String nextName( String expected ) {
+        String name = nextName();
+        return expected.equals( name ) ? expected : name;
+    }
+
+    @Override
+    public String nextString() {
+        int token = peekToken();
+        if ( token != STRING && token != NUMBER ) {
+            throw unexpected( "a string" );
+        }
+        return values.get( pos++ );
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return "true".equals( consume( BOOLEAN ) );
+    }
+
+    @Override
+    public void nextNull() {
+        consume( NULL );
+    }
+
+    @Override
+    public double nextDouble() {
+        return JsonNumberParser.parseDouble( nextNumberLiteral( "a double" ), lenient );
+    }
+
+    @Override
+    public long nextLong() {
+        return JsonNumberParser.parseLong( nextNumberLiteral( "a long" ) );
+    }
+
+    @Override
+    public int nextInt() {
+        return JsonNumberParser.parseInt( nextNumberLiteral( "an int" ) );
+    }
+
+    @Override
+    public Number nextNumber() {
+        boolean number = peekToken() == NUMBER;
+        String value = nextNumberLiteral( "a number" );
+
+        if ( number ) {
+            // same result as the parsing readers : an Integer or a Long if it fits, a Double otherwise
+            try {
+                return JsonNumberParser.narrow( Long.parseLong( value ) );
+            } catch ( NumberFormatException ignored ) {
+                return Double.parseDouble( value );
+            }
+        }
+        return JsonNumberParser.parseNumber( value, lenient );
+    }
+
+    @Override
+    public void close() {
+        pos = limit;
+    }
+
+    @Override
+    public void skipValue() {
+        int count = 0;
+        do {
+            int token = peekToken();
+            if ( token == BEGIN_ARRAY || token == BEGIN_OBJECT ) {
+                count++;
+            } else if ( token == END_ARRAY || token == END_OBJECT ) {
+                count--;
+            }
+            pos++;
+        } while ( count != 0 );
+    }
+
+    @Override
+    public String nextValue() {
+        if ( peekToken() == NULL ) {
+            pos++;
+            return "null";
+        }
+
+        // the recorded tokens are already unescaped so we have to rewrite them
+        JsonWriter writer = new FastJsonWriter( new StringBuilder() );
+        writer.setLenient( true );
+
+        int count = 0;
+        do {
+            int token = peekToken();
+            String value = values.get( pos++ );
+            if ( token == BEGIN_ARRAY ) {
+                writer.beginArray();
+                count++;
+            } else if ( token == BEGIN_OBJECT ) {
+                writer.beginObject();
+                count++;
+            } else if ( token == END_ARRAY ) {
+                writer.endArray();
+                count--;
+            } else if ( token == END_OBJECT ) {
+                writer.endObject();
+                count--;
+            } else if ( token == NAME ) {
+                writer.name( value );
+            } else if ( token == STRING ) {
+                writer.value( value );
+            } else if ( token == NUMBER || token == BOOLEAN ) {
+                writer.rawValue( value );
+            } else if ( token == NULL ) {
+                writer.nullValue();
+            }
+        } while ( count != 0 );
+
+        writer.close();
+        return writer.getOutput();
+    }
+
+    @Override
+    public int getLineNumber() {
+        return source.getLineNumber();
+    }
+
+    @Override
+    public int getColumnNumber() {
+        return source.getColumnNumber();
+    }
+
+    @Override
+    public String getInput() {
+        return source.getInput();
+    }
+
+    @Override
+    public JavaScriptObject nextJavaScriptObject( boolean useSafeEval ) {
+        int token = peekToken();
+        if ( token != BEGIN_OBJECT && token != BEGIN_ARRAY ) {
+            throw unexpected( "an array or object to evaluate a JavaScriptObject" );
+        }
+        String toEval = nextValue();
+        return useSafeEval ? JsonUtils.safeEval( toEval ) : JsonUtils.unsafeEval( toEval );
+    }
+
+    private int peekToken() {
+        if ( pos == limit ) {
+            throw new IllegalStateException( "End of buffered tokens" );
+        }
+        return tokens.get( pos );
+    }
+
+    /**
+     * Consumes the next token and asserts it is of the given type.
+     *
+     * @return the value associated to the token
+     */
+    private String consume( int expected ) {
+        if ( peekToken() != expected ) {
+            throw unexpected( TOKENS[expected].toString() );
+        }
+        return values.get( pos++ );
+    }
+
+    /**
+     * Consumes the next token and returns its literal if it is a number or a string.
+     */
+    private String nextNumberLiteral( String expected ) {
+        int token = peekToken();
+        if ( token != NUMBER && token != STRING ) {
+            throw unexpected( expected );
+        }
+        return values.get( pos++ );
+    }
+
+    private IllegalStateException unexpected( String expected ) {
+        return new IllegalStateException( "Expected " + expected + " but was " + peek() );
+    }
+}
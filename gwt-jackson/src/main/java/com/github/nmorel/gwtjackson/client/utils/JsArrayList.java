@@ -0,0 +1,134 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.utils;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+import com.google.gwt.core.client.JavaScriptObject;
+
+/**
+ * {@link List} backed directly by a JavaScript array. Unlike the emulated {@link java.util.ArrayList}, {@link #add(Object)}, {@link
+ * #get(int)} and {@link #size()} are a single native operation on the array.
+ * <p>The elements are kept in the order they are added and {@code null} elements are permitted.</p>
+ *
+ * @param <E> Type of the elements inside the {@link List}
+ *
+ * @author Nicolas Morel
+ */
+public final class JsArrayList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static native JavaScriptObject newArray() /*-{
+        return [];
+    }-*/;
+
+    private static native int length( JavaScriptObject array ) /*-{
+        return array.length;
+    }-*/;
+
+    private static native <E> E getAt( JavaScriptObject array, int index ) /*-{
+        return array[index];
+    }-*/;
+
+    private static native <E> void setAt( JavaScriptObject array, int index, E element ) /*-{
+        array[index] = element;
+    }-*/;
+
+    private static native <E> void push( JavaScriptObject array, E element ) /*-{
+        array.push(element);
+    }-*/;
+
+    private static native <E> void insertAt( JavaScriptObject array, int index, E element ) /*-{
+        array.splice(index, 0, element);
+    }-*/;
+
+    private static native <E> E removeAt( JavaScriptObject array, int index ) /*-{
+        return array.splice(index, 1)[0];
+    }-*/;
+
+    private static native void setLength( JavaScriptObject array, int length ) /*-{
+        array.length = length;
+    }-*/;
+
+    private final JavaScriptObject array = newArray();
+
+    public JsArrayList() {
+    }
+
+    /**
+     * @param elements elements added to the new list
+     */
+    public JsArrayList( Collection<? extends E> elements ) {
+        for ( E element : elements ) {
+            push( array, element );
+        }
+    }
+
+    @Override
+    public E get( int index ) {
+        checkIndex( index, length( array ) );
+        return getAt( array, index );
+    }
+
+    @Override
+    public E set( int index, E element ) {
+        checkIndex( index, length( array ) );
+        E previous = getAt( array, index );
+        setAt( array, index, element );
+        return previous;
+    }
+
+    @Override
+    public boolean add( E element ) {
+        push( array, element );
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add( int index, E element ) {
+        checkIndex( index, length( array ) + 1 );
+        insertAt( array, index, element );
+        modCount++;
+    }
+
+    @Override
+    public E remove( int index ) {
+        checkIndex( index, length( array ) );
+        modCount++;
+        return removeAt( array, index );
+    }
+
+    @Override
+    public void clear() {
+        setLength( array, 0 );
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return length( array );
+    }
+
+    private static void checkIndex( int index, int size ) {
+        if ( index < 0 || index >= size ) {
+            throw new IndexOutOfBoundsException( "Index: " + index + ", Size: " + size );
+        }
+    }
+}
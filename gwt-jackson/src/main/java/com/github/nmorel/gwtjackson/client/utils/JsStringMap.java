@@ -0,0 +1,254 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.utils;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.github.nmorel.gwtjackson.client.deser.bean.SimpleStringMap;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArrayString;
+
+/**
+ * {@link Map} with {@link String} keys backed directly by a JavaScript object. Like {@link SimpleStringMap}, the keys are prefixed so
+ * they can't collide with the properties inherited by the object and a lookup is a single native property access instead of hashing
+ * the key.
+ * <p>The entries are iterated in insertion order, like a {@link java.util.LinkedHashMap}: the order in which the keys were inserted into
+ * the map. The insertion order is not affected if a key is re-inserted into the map, but a removed then re-added key moves to the end.
+ * {@code null} values are permitted but {@code null} keys are not.</p>
+ *
+ * @param <V> Type of the values inside the {@link Map}
+ *
+ * @author Nicolas Morel
+ */
+public final class JsStringMap<V> extends AbstractMap<String, V> {
+
+    private static native JavaScriptObject newObject() /*-{
+        return {};
+    }-*/;
+
+    private static native boolean has( JavaScriptObject object, String key ) /*-{
+        return Object.prototype.hasOwnProperty.call(object, ':' + key);
+    }-*/;
+
+    private static native <V> V getAt( JavaScriptObject object, String key ) /*-{
+        var value = object[':' + key];
+        return value === undefined ? null : value;
+    }-*/;
+
+    private static native <V> void setAt( JavaScriptObject object, String key, V value ) /*-{
+        object[':' + key] = value;
+    }-*/;
+
+    private static native void deleteAt( JavaScriptObject object, String key ) /*-{
+        delete object[':' + key];
+    }-*/;
+
+    private static native JsArrayString keys( JavaScriptObject object ) /*-{
+        var keys = [];
+        for (var key in object) {
+            if (Object.prototype.hasOwnProperty.call(object, key)) {
+                keys.push(key.substring(1));
+            }
+        }
+        return keys;
+    }-*/;
+
+    private JavaScriptObject values = newObject();
+
+    private int size = 0;
+
+    private Set<Entry<String, V>> entrySet;
+
+    public JsStringMap() {
+    }
+
+    /**
+     * @param map entries added to the new map
+     */
+    public JsStringMap( Map<String, ? extends V> map ) {
+        putAll( map );
+    }
+
+    /**
+     * @return a new array containing the keys of this map in iteration order
+     */
+    public JsArrayString keys() {
+        return keys( values );
+    }
+
+    @Override
+    public V get( Object key ) {
+        return key instanceof String ? JsStringMap.<V>getAt( values, (String) key ) : null;
+    }
+
+    @Override
+    public boolean containsKey( Object key ) {
+        return key instanceof String && has( values, (String) key );
+    }
+
+    @Override
+    public V put( String key, V value ) {
+        if ( null == key ) {
+            throw new NullPointerException( "key == null" );
+        }
+        V previous = null;
+        if ( has( values, key ) ) {
+            previous = getAt( values, key );
+        } else {
+            size++;
+        }
+        setAt( values, key, value );
+        return previous;
+    }
+
+    @Override
+    public V remove( Object key ) {
+        if ( !containsKey( key ) ) {
+            return null;
+        }
+        V previous = getAt( values, (String) key );
+        deleteAt( values, (String) key );
+        size--;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        values = newObject();
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        if ( null == entrySet ) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, V>> {
+
+        @Override
+        public Iterator<Entry<String, V>> iterator() {
+            return new EntryIterator( keys() );
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            JsStringMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, V>> {
+
+        private final JsArrayString keys;
+
+        private int index = 0;
+
+        private String current;
+
+        private EntryIterator( JsArrayString keys ) {
+            this.keys = keys;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < keys.length();
+        }
+
+        @Override
+        public Entry<String, V> next() {
+            if ( !hasNext() ) {
+                throw new NoSuchElementException();
+            }
+            current = keys.get( index++ );
+            return new StringEntry( current );
+        }
+
+        @Override
+        public void remove() {
+            if ( null == current ) {
+                throw new IllegalStateException();
+            }
+            JsStringMap.this.remove( current );
+            current = null;
+        }
+    }
+
+    /**
+     * Entry reading and writing its value in the map
+     */
+    private final class StringEntry implements Entry<String, V> {
+
+        private final String key;
+
+        private StringEntry( String key ) {
+            this.key = key;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return getAt( values, key );
+        }
+
+        @Override
+        public V setValue( V value ) {
+            return put( key, value );
+        }
+
+        @Override
+        public boolean equals( Object o ) {
+            if ( !(o instanceof Entry) ) {
+                return false;
+            }
+            Entry<?, ?> other = (Entry<?, ?>) o;
+            V value = getValue();
+            return key.equals( other.getKey() ) && (null == value ? null == other.getValue() : value.equals( other.getValue() ));
+        }
+
+        @Override
+        public int hashCode() {
+            V value = getValue();
+            return key.hashCode() ^ (null == value ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
@@ -272,6 +272,7 @@ public abstract class AbstractCreator extends AbstractSourceCreator {
 
             } else {
                 // The serializer has no parameters.
+                builder.serializerClass( configuredSerializer.get().getMapperType() );
                 builder.instance( methodCallCode( configuredSerializer.get() ) );
             }
             return builder.build();
@@ -16,11 +16,9 @@
 
 package com.github.nmorel.gwtjackson.rebind;
 
-import javax.annotation.Nullable;
 import javax.lang.model.element.Modifier;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
@@ -28,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
 
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
@@ -37,6 +36,7 @@ import com.github.nmorel.gwtjackson.client.deser.bean.AbstractIdentityDeserializ
 import com.github.nmorel.gwtjackson.client.deser.bean.AnySetterDeserializer;
 import com.github.nmorel.gwtjackson.client.deser.bean.BackReferenceProperty;
 import com.github.nmorel.gwtjackson.client.deser.bean.BeanPropertyDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.bean.BufferedProperties;
 import com.github.nmorel.gwtjackson.client.deser.bean.HasDeserializerAndParameters;
 import com.github.nmorel.gwtjackson.client.deser.bean.IdentityDeserializationInfo;
 import com.github.nmorel.gwtjackson.client.deser.bean.Instance;
@@ -66,12 +66,11 @@ import com.google.gwt.core.ext.typeinfo.JAbstractMethod;
 import com.google.gwt.core.ext.typeinfo.JClassType;
 import com.google.gwt.core.ext.typeinfo.JParameter;
 import com.google.gwt.core.ext.typeinfo.JType;
-import com.google.gwt.thirdparty.guava.common.base.Function;
 import com.google.gwt.thirdparty.guava.common.base.Joiner;
 import com.google.gwt.thirdparty.guava.common.base.Optional;
-import com.google.gwt.thirdparty.guava.common.collect.Collections2;
 import com.google.gwt.thirdparty.guava.common.collect.ImmutableList;
 import com.google.gwt.thirdparty.guava.common.collect.ImmutableMap;
+import com.squareup.javapoet.ArrayTypeName;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.MethodSpec;
@@ -211,7 +210,7 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
                 .addParameter( JsonReader.class, "reader" )
                 .addParameter( JsonDeserializationContext.class, "ctx" )
                 .addParameter( JsonDeserializerParameters.class, "params" )
-                .addParameter( ParameterizedTypeName.get( Map.class, String.class, String.class ), "bufferedProperties" )
+                .addParameter( BufferedProperties.class, "bufferedProperties" )
                 .addParameter( ParameterizedTypeName.get( Map.class, String.class, Object.class ), "bufferedPropertiesValues" );
 
         if ( beanInfo.getBuilder().isPresent() ) {
@@ -247,7 +246,7 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
      * Generate the instance builder class body for a builder.
      *
      * @param newInstanceMethodBuilder builder for the
-     * {@link InstanceBuilder#newInstance(JsonReader, JsonDeserializationContext, JsonDeserializerParameters, Map, Map)}
+     * {@link InstanceBuilder#newInstance(JsonReader, JsonDeserializationContext, JsonDeserializerParameters, BufferedProperties, Map)}
      * method
      */
     private void buildNewInstanceMethodForBuilder( MethodSpec.Builder newInstanceMethodBuilder ) {
@@ -260,7 +259,7 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
      * set the properties to it
      *
      * @param newInstanceMethodBuilder builder for the
-     * {@link InstanceBuilder#newInstance(JsonReader, JsonDeserializationContext, JsonDeserializerParameters, Map, Map)}
+     * {@link InstanceBuilder#newInstance(JsonReader, JsonDeserializationContext, JsonDeserializerParameters, BufferedProperties, Map)}
      * method
      * @param createMethod the create method
      */
@@ -274,7 +273,7 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
      * instanciate the bean only on build() method when all properties have been deserialiazed
      *
      * @param newInstanceMethodBuilder builder for the
-     * {@link InstanceBuilder#newInstance(JsonReader, JsonDeserializationContext, JsonDeserializerParameters, Map, Map)} method
+     * {@link InstanceBuilder#newInstance(JsonReader, JsonDeserializationContext, JsonDeserializerParameters, BufferedProperties, Map)} method
      * @param createMethod the create method
      */
     private void buildNewInstanceMethodForConstructorOrFactoryMethod( MethodSpec.Builder newInstanceMethodBuilder,
@@ -282,7 +281,8 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
         // we don't use directly the property name to name our variable in case it contains invalid character
         ImmutableMap.Builder<String, String> propertyNameToVariableBuilder = ImmutableMap.builder();
 
-        List<String> requiredProperties = new ArrayList<String>();
+        // each required property is tracked by a bit of the int variables requiredPropertiesLeft<index / 32>
+        Map<String, Integer> requiredProperties = new LinkedHashMap<String, Integer>();
         int propertyIndex = 0;
         for ( String name : beanInfo.getCreatorParameters().keySet() ) {
             String variableName = String.format( INSTANCE_BUILDER_VARIABLE_FORMAT, propertyIndex++ );
@@ -293,7 +293,7 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
                     typeName( propertyInfo.getType() ), variableName, getDefaultValueForType( propertyInfo.getType() ), name );
 
             if ( propertyInfo.isRequired() ) {
-                requiredProperties.add( name );
+                requiredProperties.put( name, requiredProperties.size() );
             }
         }
         newInstanceMethodBuilder.addCode( "\n" );
@@ -301,20 +301,10 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
 
         newInstanceMethodBuilder.addStatement( "int nbParamToFind = $L", beanInfo.getCreatorParameters().size() );
 
-        if ( !requiredProperties.isEmpty() ) {
-            CodeBlock code = CodeBlock.builder()
-                    .add( Joiner.on( ", " ).join( Collections2.transform( requiredProperties, new Function<String, Object>() {
-                        @Nullable
-                        @Override
-                        public Object apply( String s ) {
-                            return "$S";
-                        }
-                    } ) ), requiredProperties.toArray() ).build();
-
-            newInstanceMethodBuilder.addStatement( "$T requiredProperties = new $T($T.asList($L))",
-                    ParameterizedTypeName.get( Set.class, String.class ),
-                    ParameterizedTypeName.get( HashSet.class, String.class ),
-                    Arrays.class, code );
+        int nbRequiredPropertiesWords = (requiredProperties.size() + 31) / 32;
+        for ( int word = 0; word < nbRequiredPropertiesWords; word++ ) {
+            int nbBits = Math.min( 32, requiredProperties.size() - word * 32 );
+            newInstanceMethodBuilder.addStatement( "int requiredPropertiesLeft$L = $L", word, nbBits == 32 ? -1 : (1 << nbBits) - 1 );
         }
 
         newInstanceMethodBuilder.addCode( "\n" );
@@ -331,7 +321,7 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
             newInstanceMethodBuilder.addStatement( "$L = ($T) value", variableName, typeName( true, propertyInfo.getType() ) );
             newInstanceMethodBuilder.addStatement( "nbParamToFind--" );
             if ( propertyInfo.isRequired() ) {
-                newInstanceMethodBuilder.addStatement( "requiredProperties.remove($S)", name );
+                newInstanceMethodBuilder.addCode( buildRequiredPropertyReadStatement( requiredProperties.get( name ) ) );
             }
             newInstanceMethodBuilder.endControlFlow();
         }
@@ -340,24 +330,24 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
         newInstanceMethodBuilder.addCode( "\n" );
 
         newInstanceMethodBuilder.beginControlFlow( "if (null != bufferedProperties)" );
-        newInstanceMethodBuilder.addStatement( "String value" );
+        newInstanceMethodBuilder.addStatement( "$T bufferedReader", JsonReader.class );
         for ( String name : beanInfo.getCreatorParameters().keySet() ) {
             String variableName = propertyNameToVariable.get( name );
             PropertyInfo propertyInfo = properties.get( name );
 
             newInstanceMethodBuilder.addCode( "\n" );
-            newInstanceMethodBuilder.addStatement( "value = bufferedProperties.remove($S)", name );
-            newInstanceMethodBuilder.beginControlFlow( "if (null != value)" );
+            newInstanceMethodBuilder.addStatement( "bufferedReader = bufferedProperties.remove($S)", name );
+            newInstanceMethodBuilder.beginControlFlow( "if (null != bufferedReader)" );
             if ( null != propertyInfo.getType().isPrimitive() ) {
-                newInstanceMethodBuilder.addStatement( "$L = ($T) $L.deserialize(ctx.newJsonReader(value), ctx)",
+                newInstanceMethodBuilder.addStatement( "$L = ($T) $L.deserialize(bufferedReader, ctx)",
                         variableName, typeName( true, propertyInfo.getType() ), INSTANCE_BUILDER_DESERIALIZER_PREFIX + variableName );
             } else {
-                newInstanceMethodBuilder.addStatement( "$L = $L.deserialize(ctx.newJsonReader(value), ctx)",
+                newInstanceMethodBuilder.addStatement( "$L = $L.deserialize(bufferedReader, ctx)",
                         variableName, INSTANCE_BUILDER_DESERIALIZER_PREFIX + variableName );
             }
             newInstanceMethodBuilder.addStatement( "nbParamToFind--" );
             if ( propertyInfo.isRequired() ) {
-                newInstanceMethodBuilder.addStatement( "requiredProperties.remove($S)", name );
+                newInstanceMethodBuilder.addCode( buildRequiredPropertyReadStatement( requiredProperties.get( name ) ) );
             }
             newInstanceMethodBuilder.endControlFlow();
         }
@@ -371,37 +361,52 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
         newInstanceMethodBuilder.addStatement( "name = reader.nextName()" );
         newInstanceMethodBuilder.addCode( "\n" );
 
+        Map<String, CodeBlock> parameterCases = new LinkedHashMap<String, CodeBlock>();
         for ( String name : beanInfo.getCreatorParameters().keySet() ) {
             String variableName = propertyNameToVariable.get( name );
             PropertyInfo propertyInfo = properties.get( name );
 
-            newInstanceMethodBuilder.beginControlFlow( "if ($S.equals(name))", name );
-            newInstanceMethodBuilder.addStatement( "$L = $L.deserialize(reader, ctx)",
+            CodeBlock.Builder parameterCase = CodeBlock.builder();
+            parameterCase.addStatement( "$L = $L.deserialize(reader, ctx)",
                     variableName, INSTANCE_BUILDER_DESERIALIZER_PREFIX + variableName );
-            newInstanceMethodBuilder.addStatement( "nbParamToFind--" );
+            parameterCase.addStatement( "nbParamToFind--" );
             if ( propertyInfo.isRequired() ) {
-                newInstanceMethodBuilder.addStatement( "requiredProperties.remove($S)", name );
+                parameterCase.add( buildRequiredPropertyReadStatement( requiredProperties.get( name ) ) );
             }
-            newInstanceMethodBuilder.addStatement( "continue" );
-            newInstanceMethodBuilder.endControlFlow();
-
-            newInstanceMethodBuilder.addCode( "\n" );
+            parameterCase.addStatement( "continue" );
+            parameterCases.put( name, parameterCase.build() );
         }
+        addPropertyNameSwitch( newInstanceMethodBuilder, "name", parameterCases );
+
+        newInstanceMethodBuilder.addCode( "\n" );
 
         newInstanceMethodBuilder.beginControlFlow( "if (null == bufferedProperties)" );
-        newInstanceMethodBuilder.addStatement( "bufferedProperties = new $T()",
-                ParameterizedTypeName.get( HashMap.class, String.class, String.class ) );
+        newInstanceMethodBuilder.addStatement( "bufferedProperties = new $T(reader)", BufferedProperties.class );
         newInstanceMethodBuilder.endControlFlow();
-        newInstanceMethodBuilder.addStatement( "bufferedProperties.put(name, reader.nextValue())" );
+        newInstanceMethodBuilder.addStatement( "bufferedProperties.put(name, reader)" );
 
         newInstanceMethodBuilder.endControlFlow();
 
         newInstanceMethodBuilder.addCode( "\n" );
 
         if ( !requiredProperties.isEmpty() ) {
-            newInstanceMethodBuilder.beginControlFlow( "if (!requiredProperties.isEmpty())" );
+            List<String> conditions = new ArrayList<String>();
+            for ( int word = 0; word < nbRequiredPropertiesWords; word++ ) {
+                conditions.add( "requiredPropertiesLeft" + word + " != 0" );
+            }
+            newInstanceMethodBuilder.beginControlFlow( "if ($L)", Joiner.on( " || " ).join( conditions ) );
+            // the names of the missing properties are only collected on failure
+            newInstanceMethodBuilder.addStatement( "$T requiredPropertiesMissing = new $T()",
+                    ParameterizedTypeName.get( List.class, String.class ),
+                    ParameterizedTypeName.get( ArrayList.class, String.class ) );
+            for ( Entry<String, Integer> requiredProperty : requiredProperties.entrySet() ) {
+                int index = requiredProperty.getValue();
+                newInstanceMethodBuilder.beginControlFlow( "if ((requiredPropertiesLeft$L & (1 << $L)) != 0)", index / 32, index % 32 );
+                newInstanceMethodBuilder.addStatement( "requiredPropertiesMissing.add($S)", requiredProperty.getKey() );
+                newInstanceMethodBuilder.endControlFlow();
+            }
             newInstanceMethodBuilder
-                    .addStatement( "throw ctx.traceError(\"Required properties are missing : \" + requiredProperties, reader)" );
+                    .addStatement( "throw ctx.traceError(\"Required properties are missing : \" + requiredPropertiesMissing, reader)" );
             newInstanceMethodBuilder.endControlFlow();
             newInstanceMethodBuilder.addCode( "\n" );
         }
@@ -412,11 +417,22 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
                 Joiner.on( ", " ).join( propertyNameToVariable.values() ) );
     }
 
+    /**
+     * Clears the bit tracking the required property at the given index.
+     *
+     * @param requiredIndex index of the required property
+     *
+     * @return the statement clearing the bit
+     */
+    private CodeBlock buildRequiredPropertyReadStatement( int requiredIndex ) {
+        return CodeBlock.builder().addStatement( "requiredPropertiesLeft$L &= ~(1 << $L)", requiredIndex / 32, requiredIndex % 32 ).build();
+    }
+
     /**
      * Generate the instance builder class body for a constructor or factory method with delegation.
      *
      * @param newInstanceMethodBuilder builder for the
-     * {@link InstanceBuilder#newInstance(JsonReader, JsonDeserializationContext, JsonDeserializerParameters, Map, Map)}
+     * {@link InstanceBuilder#newInstance(JsonReader, JsonDeserializationContext, JsonDeserializerParameters, BufferedProperties, Map)}
      * method
      * @param createMethod the create method
      */
@@ -507,7 +523,9 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
         }
 
         if ( !deserializerProperties.isEmpty() ) {
-            typeBuilder.addMethod( buildInitDeserializersMethod( deserializerProperties ) );
+            typeBuilder.addMethod( buildInitIndexedDeserializersMethod( deserializerProperties ) );
+            typeBuilder.addMethod( buildIndexOfPropertyMethod( deserializerProperties.keySet() ) );
+            typeBuilder.addMethod( buildInitIndexedPropertyNamesMethod( deserializerProperties.keySet() ) );
         }
 
         if ( !backReferenceProperties.isEmpty() ) {
@@ -554,30 +572,161 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
                 .build() );
     }
 
-    private MethodSpec buildInitDeserializersMethod( Map<PropertyInfo, JDeserializerType> properties ) throws UnableToCompleteException {
+    private MethodSpec buildInitIndexedDeserializersMethod( Map<PropertyInfo, JDeserializerType> properties )
+            throws UnableToCompleteException {
 
-        TypeName resultType = ParameterizedTypeName.get( ClassName.get( SimpleStringMap.class ),
-                ParameterizedTypeName.get( ClassName.get( BeanPropertyDeserializer.class ),
-                        typeName( beanInfo.getType() ), DEFAULT_WILDCARD ) );
+        TypeName resultType = ArrayTypeName.of( ParameterizedTypeName.get( ClassName.get( BeanPropertyDeserializer.class ),
+                typeName( beanInfo.getType() ), DEFAULT_WILDCARD ) );
 
-        MethodSpec.Builder builder = MethodSpec.methodBuilder( "initDeserializers" )
+        MethodSpec.Builder builder = MethodSpec.methodBuilder( "initIndexedDeserializers" )
                 .addModifiers( Modifier.PROTECTED )
                 .addAnnotation( Override.class )
                 .returns( resultType )
-                .addStatement( "$T map = $T.createObject().cast()", resultType, SimpleStringMap.class );
+                .addStatement( "$T deserializers = new $T[$L]", resultType, BeanPropertyDeserializer.class, properties.size() );
 
+        // the indexes must match the ones returned by indexOfProperty
+        int index = 0;
         for ( Entry<PropertyInfo, JDeserializerType> entry : properties.entrySet() ) {
             PropertyInfo property = entry.getKey();
             JDeserializerType deserializerType = entry.getValue();
 
-            builder.addStatement( "map.put($S, $L)",
-                    property.getPropertyName(), buildDeserializer( property, property.getType(), deserializerType ) );
+            builder.addStatement( "deserializers[$L] = $L", index++, buildDeserializer( property, property.getType(), deserializerType ) );
         }
 
-        builder.addStatement( "return map" );
+        builder.addStatement( "return deserializers" );
+        return builder.build();
+    }
+
+    private MethodSpec buildIndexOfPropertyMethod( Collection<PropertyInfo> properties ) {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder( "indexOfProperty" )
+                .addModifiers( Modifier.PROTECTED )
+                .addAnnotation( Override.class )
+                .returns( int.class )
+                .addParameter( String.class, "propertyName" );
+
+        Map<String, CodeBlock> propertyCases = new LinkedHashMap<String, CodeBlock>();
+        int index = 0;
+        for ( PropertyInfo property : properties ) {
+            propertyCases.put( property.getPropertyName(), CodeBlock.builder().addStatement( "return $L", index++ ).build() );
+        }
+        addPropertyNameSwitch( builder, "propertyName", propertyCases );
+
+        builder.addStatement( "return -1" );
         return builder.build();
     }
 
+    /**
+     * Adds a dispatch on the value of a property name variable. The generated code has to compile with a 1.6 source level so we can't
+     * switch on the name itself. We switch on its length then, if several names have the same length, on the character distinguishing
+     * them the most and we check each candidate with equals. Each case code must end with a jump statement like return or continue.
+     *
+     * @param builder the method builder
+     * @param variable the variable containing the property name
+     * @param cases the code to execute for each property name
+     */
+    private void addPropertyNameSwitch( MethodSpec.Builder builder, String variable, Map<String, CodeBlock> cases ) {
+        Map<Integer, List<String>> namesByLength = new TreeMap<Integer, List<String>>();
+        for ( String name : cases.keySet() ) {
+            List<String> names = namesByLength.get( name.length() );
+            if ( null == names ) {
+                names = new ArrayList<String>();
+                namesByLength.put( name.length(), names );
+            }
+            names.add( name );
+        }
+
+        builder.beginControlFlow( "switch ($L.length())", variable );
+        for ( Entry<Integer, List<String>> entry : namesByLength.entrySet() ) {
+            builder.addCode( "case $L:\n$>", entry.getKey() );
+            List<String> names = entry.getValue();
+            if ( names.size() == 1 ) {
+                addPropertyNameCandidates( builder, variable, names, cases );
+            } else {
+                int position = findDistinguishingCharPosition( names );
+                Map<Character, List<String>> namesByChar = new TreeMap<Character, List<String>>();
+                for ( String name : names ) {
+                    List<String> candidates = namesByChar.get( name.charAt( position ) );
+                    if ( null == candidates ) {
+                        candidates = new ArrayList<String>();
+                        namesByChar.put( name.charAt( position ), candidates );
+                    }
+                    candidates.add( name );
+                }
+
+                builder.beginControlFlow( "switch ($L.charAt($L))", variable, position );
+                for ( Entry<Character, List<String>> charEntry : namesByChar.entrySet() ) {
+                    builder.addCode( "case $L:\n$>", charLiteral( charEntry.getKey() ) );
+                    addPropertyNameCandidates( builder, variable, charEntry.getValue(), cases );
+                    builder.addStatement( "break" );
+                    builder.addCode( "$<" );
+                }
+                builder.endControlFlow();
+            }
+            builder.addStatement( "break" );
+            builder.addCode( "$<" );
+        }
+        builder.endControlFlow();
+    }
+
+    private void addPropertyNameCandidates( MethodSpec.Builder builder, String variable, List<String> names, Map<String, CodeBlock>
+            cases ) {
+        for ( String name : names ) {
+            builder.beginControlFlow( "if ($S.equals($L))", name, variable );
+            builder.addCode( cases.get( name ) );
+            builder.endControlFlow();
+        }
+    }
+
+    /**
+     * @return the literal of the char in the generated code. The chars we would have to escape are written as their code.
+     */
+    private String charLiteral( char c ) {
+        if ( (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '-' ) {
+            return "'" + c + "'";
+        }
+        return Integer.toString( c );
+    }
+
+    /**
+     * @param names the names, all of the same length
+     *
+     * @return the position of the character taking the most distinct values among the names
+     */
+    private int findDistinguishingCharPosition( List<String> names ) {
+        int position = 0;
+        int maxDistinctChars = 0;
+        for ( int i = 0; i < names.get( 0 ).length(); i++ ) {
+            Set<Character> chars = new HashSet<Character>();
+            for ( String name : names ) {
+                chars.add( name.charAt( i ) );
+            }
+            if ( chars.size() > maxDistinctChars ) {
+                position = i;
+                maxDistinctChars = chars.size();
+            }
+        }
+        return position;
+    }
+
+    private MethodSpec buildInitIndexedPropertyNamesMethod( Collection<PropertyInfo> properties ) {
+        // the names are in the same order as the deserializers
+        StringBuilder format = new StringBuilder( "return new $T[]{" );
+        List<Object> args = new ArrayList<Object>( properties.size() + 1 );
+        args.add( String.class );
+        for ( PropertyInfo property : properties ) {
+            format.append( args.size() == 1 ? "$S" : ", $S" );
+            args.add( property.getPropertyName() );
+        }
+        format.append( "}" );
+
+        return MethodSpec.methodBuilder( "initIndexedPropertyNames" )
+                .addModifiers( Modifier.PROTECTED )
+                .addAnnotation( Override.class )
+                .returns( ArrayTypeName.of( String.class ) )
+                .addStatement( format.toString(), args.toArray() )
+                .build();
+    }
+
     private TypeSpec buildDeserializer( PropertyInfo property, JType propertyType, JDeserializerType deserializerType )
             throws UnableToCompleteException {
         final String paramValue = "value";
@@ -28,7 +28,16 @@ import com.fasterxml.jackson.annotation.ObjectIdGenerator;
 import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
 import com.github.nmorel.gwtjackson.client.JsonSerializer;
 import com.github.nmorel.gwtjackson.client.JsonSerializerParameters;
+import com.github.nmorel.gwtjackson.client.ser.BaseNumberJsonSerializer.ByteJsonSerializer;
+import com.github.nmorel.gwtjackson.client.ser.BaseNumberJsonSerializer.DoubleJsonSerializer;
+import com.github.nmorel.gwtjackson.client.ser.BaseNumberJsonSerializer.FloatJsonSerializer;
+import com.github.nmorel.gwtjackson.client.ser.BaseNumberJsonSerializer.IntegerJsonSerializer;
+import com.github.nmorel.gwtjackson.client.ser.BaseNumberJsonSerializer.LongJsonSerializer;
+import com.github.nmorel.gwtjackson.client.ser.BaseNumberJsonSerializer.ShortJsonSerializer;
+import com.github.nmorel.gwtjackson.client.ser.BooleanJsonSerializer;
+import com.github.nmorel.gwtjackson.client.ser.CharacterJsonSerializer;
 import com.github.nmorel.gwtjackson.client.ser.RawValueJsonSerializer;
+import com.github.nmorel.gwtjackson.client.ser.StringJsonSerializer;
 import com.github.nmorel.gwtjackson.client.ser.bean.AbstractBeanJsonSerializer;
 import com.github.nmorel.gwtjackson.client.ser.bean.AbstractIdentitySerializationInfo;
 import com.github.nmorel.gwtjackson.client.ser.bean.AnyGetterPropertySerializer;
@@ -57,6 +66,7 @@ import com.google.gwt.i18n.client.TimeZone;
 import com.google.gwt.thirdparty.guava.common.base.Optional;
 import com.google.gwt.thirdparty.guava.common.base.Strings;
 import com.google.gwt.thirdparty.guava.common.collect.ImmutableList;
+import com.google.gwt.thirdparty.guava.common.collect.ImmutableSet;
 import com.squareup.javapoet.ArrayTypeName;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
@@ -77,6 +87,23 @@ import static com.github.nmorel.gwtjackson.rebind.writer.JTypeName.typeName;
  */
 public class BeanJsonSerializerCreator extends AbstractBeanJsonCreator {
 
+    /**
+     * Boxed primitives and String, serialized by a singleton serializer by default
+     */
+    private static final ImmutableSet<String> DIRECTLY_SERIALIZABLE_TYPES = ImmutableSet.of( Boolean.class.getName(), Byte.class
+            .getName(), Character.class.getName(), Double.class.getName(), Float.class.getName(), Integer.class.getName(), Long.class
+            .getName(), Short.class.getName(), String.class.getName() );
+
+    /**
+     * Built-in serializers of the boxed primitives and String. Their static {@code getInstance()} returns the concrete serializer so its
+     * {@code serialize} method accepts the value of the property.
+     */
+    private static final ImmutableSet<String> DIRECTLY_SERIALIZABLE_SERIALIZERS = ImmutableSet.of( BooleanJsonSerializer.class
+            .getCanonicalName(), ByteJsonSerializer.class.getCanonicalName(), CharacterJsonSerializer.class.getCanonicalName(),
+            DoubleJsonSerializer.class.getCanonicalName(), FloatJsonSerializer.class.getCanonicalName(), IntegerJsonSerializer.class
+                    .getCanonicalName(), LongJsonSerializer.class.getCanonicalName(), ShortJsonSerializer.class.getCanonicalName(),
+            StringJsonSerializer.class.getCanonicalName() );
+
     public BeanJsonSerializerCreator( TreeLogger logger, GeneratorContext context, RebindConfiguration configuration, JacksonTypeOracle
             typeOracle, JClassType beanType ) throws UnableToCompleteException {
         super( logger, context, configuration, typeOracle, beanType );
@@ -103,6 +130,9 @@ public class BeanJsonSerializerCreator extends AbstractBeanJsonCreator {
                 }
                 if ( !propertiesMap.isEmpty() ) {
                     typeBuilder.addMethod( buildInitSerializersMethod( propertiesMap ) );
+                    if ( configuration.isStraightLineBeanSerializers() ) {
+                        typeBuilder.addMethod( buildSerializeAllPropertiesMethod( propertiesMap ) );
+                    }
                 }
             }
         }
@@ -175,6 +205,64 @@ public class BeanJsonSerializerCreator extends AbstractBeanJsonCreator {
         return builder.build();
     }
 
+    /**
+     * Builds a straight-line version of {@link AbstractBeanJsonSerializer#serializeAllProperties}. The simple properties are read directly
+     * and given to their concrete serializer, the others are serialized by their property serializer in {@code serializers}.
+     */
+    private MethodSpec buildSerializeAllPropertiesMethod( Map<PropertyInfo, JSerializerType> properties ) {
+        String paramName = "bean";
+        MethodSpec.Builder builder = MethodSpec.methodBuilder( "serializeAllProperties" )
+                .addModifiers( Modifier.PROTECTED )
+                .addAnnotation( Override.class )
+                .addParameter( JsonWriter.class, "writer" )
+                .addParameter( typeName( beanInfo.getType() ), paramName )
+                .addParameter( JsonSerializationContext.class, "ctx" );
+
+        int i = 0;
+        for ( Entry<PropertyInfo, JSerializerType> entry : properties.entrySet() ) {
+            PropertyInfo property = entry.getKey();
+            JSerializerType serializerType = entry.getValue();
+
+            boolean requireEscaping = !property.getPropertyName().equals( escapeString( property.getPropertyName() ) );
+            if ( property.isUnwrapped() || requireEscaping ) {
+                builder.addStatement( "serializers[$L].serializePropertyName(writer, $L, ctx)", i, paramName );
+            } else {
+                builder.addStatement( "writer.nameToken($S)", ",\"" + property.getPropertyName() + "\":" );
+            }
+
+            Accessor getterAccessor = property.getGetterAccessor().get().getAccessor( paramName );
+            if ( isDirectlySerializable( property, serializerType, getterAccessor ) ) {
+                builder.addStatement( "$L.serialize(writer, $L, ctx)", serializerType.getInstance(), getterAccessor.getAccessor() );
+            } else {
+                builder.addStatement( "serializers[$L].serialize(writer, $L, ctx)", i, paramName );
+            }
+            i++;
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return true if the property is a primitive, a boxed primitive or a String using its built-in serializer, without parameters and
+     * with an accessor usable outside of its property serializer.
+     */
+    private boolean isDirectlySerializable( PropertyInfo property, JSerializerType serializerType, Accessor getterAccessor ) {
+        if ( property.isRawValue() || property.isUnwrapped() || getterAccessor.getAdditionalMethod().isPresent() ) {
+            return false;
+        }
+        if ( property.getFormat().isPresent() || property.getInclude().isPresent() || property.getIgnoredProperties().isPresent() ||
+                property.getIgnoreUnknown().isPresent() || property.getIdentityInfo().isPresent() || property.getTypeInfo().isPresent() ) {
+            // the property has its own parameters
+            return false;
+        }
+        if ( !serializerType.getSerializerClass().isPresent() || !DIRECTLY_SERIALIZABLE_SERIALIZERS
+                .contains( serializerType.getSerializerClass().get().getQualifiedSourceName() ) ) {
+            // a custom serializer may not accept the value of the property
+            return false;
+        }
+        JType type = property.getType();
+        return null != type.isPrimitive() || DIRECTLY_SERIALIZABLE_TYPES.contains( type.getQualifiedSourceName() );
+    }
+
     private MethodSpec buildInitAnyGetterPropertySerializerMethod( PropertyInfo anyGetterPropertyInfo )
             throws UnableToCompleteException {
         return MethodSpec.methodBuilder( "initAnyGetterPropertySerializer" )
@@ -191,18 +279,22 @@ public class BeanJsonSerializerCreator extends AbstractBeanJsonCreator {
         TypeSpec.Builder builder;
 
         String escapedPropertyName = escapeString( property.getPropertyName() );
+        boolean requireEscaping = !property.getPropertyName().equals( escapedPropertyName );
 
         if ( property.isAnyGetter() ) {
             builder = TypeSpec.anonymousClassBuilder( "" )
                     .superclass( parameterizedName( AnyGetterPropertySerializer.class, beanInfo.getType() ) );
-        } else {
+        } else if ( property.isUnwrapped() || requireEscaping ) {
             builder = TypeSpec.anonymousClassBuilder( "\"$L\"", escapedPropertyName )
                     .superclass( parameterizedName( BeanPropertySerializer.class, beanInfo.getType(), property.getType() ) );
+        } else {
+            // the name token is written as is by the JsonWriter
+            builder = TypeSpec.anonymousClassBuilder( "$S, $S", property.getPropertyName(), ",\"" + property.getPropertyName() + "\":" )
+                    .superclass( parameterizedName( BeanPropertySerializer.class, beanInfo.getType(), property.getType() ) );
         }
 
         buildBeanPropertySerializerBody( builder, beanInfo.getType(), property, serializerType );
 
-        boolean requireEscaping = !property.getPropertyName().equals( escapedPropertyName );
         if ( property.isUnwrapped() || requireEscaping ) {
             MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder( "serializePropertyName" )
                     .addModifiers( Modifier.PUBLIC )
@@ -192,6 +192,8 @@ public final class RebindConfiguration {
 
     private final JsonAutoDetect.Visibility defaultCreatorVisibility;
 
+    private final boolean straightLineBeanSerializers;
+
     public RebindConfiguration( TreeLogger logger, GeneratorContext context, JacksonTypeOracle typeOracle, JClassType rootMapperClass )
             throws UnableToCompleteException {
         this.logger = logger;
@@ -212,6 +214,7 @@ public final class RebindConfiguration {
         JsonAutoDetect.Visibility isGetterVisibility = JsonAutoDetect.Visibility.DEFAULT;
         JsonAutoDetect.Visibility setterVisibility = JsonAutoDetect.Visibility.DEFAULT;
         JsonAutoDetect.Visibility creatorVisibility = JsonAutoDetect.Visibility.DEFAULT;
+        boolean straightLineBeanSerializers = false;
 
         for ( AbstractConfiguration configuration : configurations ) {
             for ( MapperType mapperType : MapperType.values() ) {
@@ -225,6 +228,7 @@ public final class RebindConfiguration {
             isGetterVisibility = configuration.getIsGetterVisibility();
             setterVisibility = configuration.getSetterVisibility();
             creatorVisibility = configuration.getCreatorVisibility();
+            straightLineBeanSerializers = configuration.isStraightLineBeanSerializers();
         }
 
         this.allSupportedSerializationClass = allSupportedSerializationClassBuilder.build();
@@ -236,6 +240,7 @@ public final class RebindConfiguration {
         this.defaultIsGetterVisibility = isGetterVisibility;
         this.defaultSetterVisibility = setterVisibility;
         this.defaultCreatorVisibility = creatorVisibility;
+        this.straightLineBeanSerializers = straightLineBeanSerializers;
     }
 
     /**
@@ -595,4 +600,8 @@ public final class RebindConfiguration {
     public Visibility getDefaultCreatorVisibility() {
         return defaultCreatorVisibility;
     }
+
+    public boolean isStraightLineBeanSerializers() {
+        return straightLineBeanSerializers;
+    }
 }
@@ -16,7 +16,9 @@
 
 package com.github.nmorel.gwtjackson.rebind.type;
 
+import com.google.gwt.core.ext.typeinfo.JClassType;
 import com.google.gwt.core.ext.typeinfo.JType;
+import com.google.gwt.thirdparty.guava.common.base.Optional;
 import com.google.gwt.thirdparty.guava.common.base.Preconditions;
 import com.google.gwt.thirdparty.guava.common.collect.ImmutableList;
 import com.squareup.javapoet.CodeBlock;
@@ -30,17 +32,36 @@ public final class JSerializerType extends JMapperType {
 
     public static final class Builder extends JMapperType.Builder<Builder, JSerializerType> {
 
+        private JClassType serializerClass;
+
+        public Builder serializerClass( JClassType serializerClass ) {
+            this.serializerClass = serializerClass;
+            return this;
+        }
+
         public JSerializerType build() {
             Preconditions.checkNotNull( instance, "instance is mandatory" );
             Preconditions.checkNotNull( type, "type is mandatory" );
             if ( null == parameters ) {
                 parameters = ImmutableList.of();
             }
-            return new JSerializerType( beanMapper, type, instance, parameters );
+            return new JSerializerType( beanMapper, type, instance, parameters, Optional.fromNullable( serializerClass ) );
         }
     }
 
-    private JSerializerType( boolean beanMapper, JType type, CodeBlock instance, ImmutableList<JSerializerType> parameters ) {
+    private final Optional<JClassType> serializerClass;
+
+    private JSerializerType( boolean beanMapper, JType type, CodeBlock instance, ImmutableList<JSerializerType> parameters,
+                             Optional<JClassType> serializerClass ) {
         super( beanMapper, type, instance, parameters );
+        this.serializerClass = serializerClass;
+    }
+
+    /**
+     * @return the class of the serializer if it is a configured serializer without parameters, its instance is then returned by a
+     * static method of this class
+     */
+    public Optional<JClassType> getSerializerClass() {
+        return serializerClass;
     }
 }
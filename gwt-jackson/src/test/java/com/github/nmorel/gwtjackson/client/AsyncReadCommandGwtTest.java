@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nmorel.gwtjackson.client;
+
+import java.util.List;
+
+import com.github.nmorel.gwtjackson.client.mapper.ReadAsyncGwtTest.Row;
+import com.github.nmorel.gwtjackson.client.mapper.ReadAsyncGwtTest.RowListReader;
+import com.github.nmorel.gwtjackson.client.mapper.ReadAsyncGwtTest.RowReader;
+
+/**
+ * @author Nicolas Morel
+ */
+public class AsyncReadCommandGwtTest extends GwtJacksonTestCase {
+
+    private static class CallbackException extends RuntimeException {}
+
+    /**
+     * Callback throwing from {@link #onSuccess(Object)} and counting the calls to {@link #onFailure(RuntimeException)}
+     */
+    private static class ThrowingCallback<T> implements AsyncReadCallback<T> {
+
+        private int successes;
+
+        private int failures;
+
+        @Override
+        public void onSuccess( T result ) {
+            successes++;
+            throw new CallbackException();
+        }
+
+        @Override
+        public void onFailure( RuntimeException exception ) {
+            failures++;
+        }
+    }
+
+    private <T> void assertCallbackExceptionPropagated( AbstractObjectMapper<T> mapper, String input ) {
+        ThrowingCallback<T> callback = new ThrowingCallback<T>();
+        AsyncReadCommand<T> command = new AsyncReadCommand<T>( mapper, input, JsonDeserializationContext.builder().build(), callback );
+        try {
+            while ( command.execute() ) {
+                // the slices are executed until the end of the read
+            }
+            fail( "CallbackException expected" );
+        } catch ( CallbackException e ) {
+            // expected
+        }
+        assertEquals( 1, callback.successes );
+        assertEquals( 0, callback.failures );
+    }
+
+    public void testExceptionFromOnSuccessIsNotAFailure() {
+        assertCallbackExceptionPropagated( (AbstractObjectMapper<Row>) RowReader.INSTANCE, "{\"id\":1,\"label\":\"a\"}" );
+    }
+
+    public void testExceptionFromOnSuccessIsNotAFailureForCollection() {
+        assertCallbackExceptionPropagated( (AbstractObjectMapper<List<Row>>) RowListReader.INSTANCE, "[{\"id\":1},{\"id\":2}]" );
+    }
+}
@@ -50,6 +50,7 @@ import com.github.nmorel.gwtjackson.client.annotation.JsonIgnoreTypeGwtTest;
 import com.github.nmorel.gwtjackson.client.annotation.JsonIncludeGwtTest;
 import com.github.nmorel.gwtjackson.client.annotation.JsonManagedAndBackReferenceGwtTest;
 import com.github.nmorel.gwtjackson.client.annotation.JsonPropertyOrderGwtTest;
+import com.github.nmorel.gwtjackson.client.annotation.JsonPropertyRequiredGwtTest;
 import com.github.nmorel.gwtjackson.client.annotation.JsonRawValueGwtTest;
 import com.github.nmorel.gwtjackson.client.annotation.JsonRootNameGwtTest;
 import com.github.nmorel.gwtjackson.client.annotation.JsonUnwrappedGwtTest;
@@ -62,14 +63,18 @@ import com.github.nmorel.gwtjackson.client.deser.VoidJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.array.ArrayJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.array.ByteArray2dJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.array.ByteArrayJsonDeserializerTest;
+import com.github.nmorel.gwtjackson.client.deser.array.DoubleArray2dJsonDeserializerTest;
+import com.github.nmorel.gwtjackson.client.deser.array.LongArrayJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.collection.CollectionJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.collection.IterableJsonDeserializerTest;
+import com.github.nmorel.gwtjackson.client.deser.collection.JsArrayListJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.collection.ListJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.collection.SetJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.date.DateJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.date.SqlDateJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.date.SqlTimeJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.date.SqlTimestampJsonDeserializerTest;
+import com.github.nmorel.gwtjackson.client.deser.map.JsStringMapJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.map.key.BigDecimalKeyDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.map.key.BigIntegerKeyDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.map.key.BooleanKeyDeserializerTest;
@@ -98,14 +103,22 @@ import com.github.nmorel.gwtjackson.client.deser.number.ShortJsonDeserializerTes
 import com.github.nmorel.gwtjackson.client.mapper.AllCollectionsObjectMapperTest;
 import com.github.nmorel.gwtjackson.client.mapper.AllMapsObjectMapperTest;
 import com.github.nmorel.gwtjackson.client.mapper.AutoDetectionGwtTest;
+import com.github.nmorel.gwtjackson.client.mapper.ChunkedObjectReaderGwtTest;
 import com.github.nmorel.gwtjackson.client.mapper.CommonJsonMapperTest;
 import com.github.nmorel.gwtjackson.client.mapper.CustomIterableGwtTest;
 import com.github.nmorel.gwtjackson.client.mapper.EnumMapperGwtTest;
 import com.github.nmorel.gwtjackson.client.mapper.ErrorGwtTest;
 import com.github.nmorel.gwtjackson.client.mapper.IgnoreStaticGwtTest;
 import com.github.nmorel.gwtjackson.client.mapper.PropertyNamingGwtTest;
+import com.github.nmorel.gwtjackson.client.mapper.JsonSessionGwtTest;
+import com.github.nmorel.gwtjackson.client.mapper.LoopSerializerGwtTest;
+import com.github.nmorel.gwtjackson.client.mapper.ReadAsyncGwtTest;
+import com.github.nmorel.gwtjackson.client.mapper.ReadElementsGwtTest;
 import com.github.nmorel.gwtjackson.client.mapper.SimpleBeanObjectReaderTest;
 import com.github.nmorel.gwtjackson.client.mapper.SimpleBeanObjectWriterTest;
+import com.github.nmorel.gwtjackson.client.mapper.StraightLineSerializerGwtTest;
+import com.github.nmorel.gwtjackson.client.mapper.WriteToJavaScriptObjectGwtTest;
+import com.github.nmorel.gwtjackson.client.mapper.WriteToSinkGwtTest;
 import com.github.nmorel.gwtjackson.client.mixins.MixinDeserForClassGwtTest;
 import com.github.nmorel.gwtjackson.client.mixins.MixinDeserForCreatorsGwtTest;
 import com.github.nmorel.gwtjackson.client.mixins.MixinInheritanceGwtTest;
@@ -126,6 +139,7 @@ import com.github.nmorel.gwtjackson.client.ser.VoidJsonSerializerTest;
 import com.github.nmorel.gwtjackson.client.ser.array.ArrayJsonSerializerTest;
 import com.github.nmorel.gwtjackson.client.ser.array.ByteArray2dJsonSerializerTest;
 import com.github.nmorel.gwtjackson.client.ser.array.ByteArrayJsonSerializerTest;
+import com.github.nmorel.gwtjackson.client.ser.array.DoubleArrayJsonSerializerTest;
 import com.github.nmorel.gwtjackson.client.ser.collection.CollectionJsonSerializerTest;
 import com.github.nmorel.gwtjackson.client.ser.collection.IterableJsonSerializerTest;
 import com.github.nmorel.gwtjackson.client.ser.collection.ListJsonSerializerTest;
@@ -134,6 +148,7 @@ import com.github.nmorel.gwtjackson.client.ser.date.DateJsonSerializerTest;
 import com.github.nmorel.gwtjackson.client.ser.date.SqlDateJsonSerializerTest;
 import com.github.nmorel.gwtjackson.client.ser.date.SqlTimeJsonSerializerTest;
 import com.github.nmorel.gwtjackson.client.ser.date.SqlTimestampJsonSerializerTest;
+import com.github.nmorel.gwtjackson.client.ser.map.JsStringMapJsonSerializerTest;
 import com.github.nmorel.gwtjackson.client.ser.map.key.BigDecimalKeySerializerTest;
 import com.github.nmorel.gwtjackson.client.ser.map.key.BigIntegerKeySerializerTest;
 import com.github.nmorel.gwtjackson.client.ser.map.key.BooleanKeySerializerTest;
@@ -162,7 +177,11 @@ import com.github.nmorel.gwtjackson.client.ser.number.ShortJsonSerializerTest;
 import com.github.nmorel.gwtjackson.client.stream.impl.DefaultJsonReaderTest;
 import com.github.nmorel.gwtjackson.client.stream.impl.DefaultJsonWriterTest;
 import com.github.nmorel.gwtjackson.client.stream.impl.FastJsonWriterTest;
+import com.github.nmorel.gwtjackson.client.stream.impl.JsonOutputBufferTest;
+import com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonReaderTest;
+import com.github.nmorel.gwtjackson.client.stream.impl.NativeJsonWriterTest;
 import com.github.nmorel.gwtjackson.client.stream.impl.NonBufferedJsonReaderTest;
+import com.github.nmorel.gwtjackson.client.stream.impl.TokenBufferJsonReaderTest;
 import com.google.gwt.junit.tools.GWTTestSuite;
 import junit.framework.Test;
 import junit.framework.TestCase;
@@ -180,11 +199,16 @@ public class GwtJacksonTestSuite extends TestCase {
         suite.addTestSuite( NonBufferedJsonReaderTest.class );
         suite.addTestSuite( DefaultJsonWriterTest.class );
         suite.addTestSuite( FastJsonWriterTest.class );
+        suite.addTestSuite( JsonOutputBufferTest.class );
+        suite.addTestSuite( TokenBufferJsonReaderTest.class );
+        suite.addTestSuite( NativeJsonReaderTest.class );
+        suite.addTestSuite( NativeJsonWriterTest.class );
 
         // Default json serializers
         suite.addTestSuite( ArrayJsonSerializerTest.class );
         suite.addTestSuite( ByteArrayJsonSerializerTest.class );
         suite.addTestSuite( ByteArray2dJsonSerializerTest.class );
+        suite.addTestSuite( DoubleArrayJsonSerializerTest.class );
         suite.addTestSuite( BigDecimalJsonSerializerTest.class );
         suite.addTestSuite( BigIntegerJsonSerializerTest.class );
         suite.addTestSuite( BooleanJsonSerializerTest.class );
@@ -198,6 +222,7 @@ public class GwtJacksonTestSuite extends TestCase {
         suite.addTestSuite( IntegerJsonSerializerTest.class );
         suite.addTestSuite( IterableJsonSerializerTest.class );
         suite.addTestSuite( ListJsonSerializerTest.class );
+        suite.addTestSuite( JsStringMapJsonSerializerTest.class );
         suite.addTestSuite( LongJsonSerializerTest.class );
         suite.addTestSuite( SetJsonSerializerTest.class );
         suite.addTestSuite( ShortJsonSerializerTest.class );
@@ -231,6 +256,8 @@ public class GwtJacksonTestSuite extends TestCase {
         suite.addTestSuite( ArrayJsonDeserializerTest.class );
         suite.addTestSuite( ByteArrayJsonDeserializerTest.class );
         suite.addTestSuite( ByteArray2dJsonDeserializerTest.class );
+        suite.addTestSuite( DoubleArray2dJsonDeserializerTest.class );
+        suite.addTestSuite( LongArrayJsonDeserializerTest.class );
         suite.addTestSuite( BigDecimalJsonDeserializerTest.class );
         suite.addTestSuite( BigIntegerJsonDeserializerTest.class );
         suite.addTestSuite( BooleanJsonDeserializerTest.class );
@@ -244,6 +271,8 @@ public class GwtJacksonTestSuite extends TestCase {
         suite.addTestSuite( IntegerJsonDeserializerTest.class );
         suite.addTestSuite( IterableJsonDeserializerTest.class );
         suite.addTestSuite( ListJsonDeserializerTest.class );
+        suite.addTestSuite( JsArrayListJsonDeserializerTest.class );
+        suite.addTestSuite( JsStringMapJsonDeserializerTest.class );
         suite.addTestSuite( LongJsonDeserializerTest.class );
         suite.addTestSuite( SetJsonDeserializerTest.class );
         suite.addTestSuite( ShortJsonDeserializerTest.class );
@@ -285,10 +314,21 @@ public class GwtJacksonTestSuite extends TestCase {
         suite.addTestSuite( ErrorGwtTest.class );
         suite.addTestSuite( AutoDetectionGwtTest.class );
         suite.addTestSuite( EnumMapperGwtTest.class );
+        suite.addTestSuite( ChunkedObjectReaderGwtTest.class );
+        suite.addTestSuite( JsonSessionGwtTest.class );
+        suite.addTestSuite( WriteToJavaScriptObjectGwtTest.class );
+        suite.addTestSuite( WriteToSinkGwtTest.class );
+        suite.addTestSuite( ReadAsyncGwtTest.class );
+        suite.addTestSuite( AsyncReadCommandGwtTest.class );
+        suite.addTestSuite( ObjectIdGwtTest.class );
+        suite.addTestSuite( ReadElementsGwtTest.class );
+        suite.addTestSuite( StraightLineSerializerGwtTest.class );
+        suite.addTestSuite( LoopSerializerGwtTest.class );
 
         // Annotations test
         suite.addTestSuite( JsonAutoDetectGwtTest.class );
         suite.addTestSuite( JsonPropertyOrderGwtTest.class );
+        suite.addTestSuite( JsonPropertyRequiredGwtTest.class );
         suite.addTestSuite( JsonIgnoreGwtTest.class );
         suite.addTestSuite( JsonCreatorGwtTest.class );
         suite.addTestSuite( JsonIgnoreTypeGwtTest.class );
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client;
+
+import java.util.Arrays;
+
+import com.fasterxml.jackson.annotation.ObjectIdGenerator.IdKey;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators.IntSequenceGenerator;
+import com.github.nmorel.gwtjackson.client.ser.BaseNumberJsonSerializer.IntegerJsonSerializer;
+import com.github.nmorel.gwtjackson.client.ser.bean.ObjectIdSerializer;
+
+/**
+ * Tests the object ids kept by the contexts. In compiled code, they are kept in native maps.
+ *
+ * @author Nicolas Morel
+ */
+public class ObjectIdGwtTest extends GwtJacksonTestCase {
+
+    private static class Bean {
+
+        private final int value;
+
+        private Bean( int value ) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals( Object o ) {
+            return o instanceof Bean && ((Bean) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return value;
+        }
+    }
+
+    public void testSerializationIdsByIdentity() {
+        JsonSerializationContext ctx = JsonSerializationContext.builder().build();
+        Bean bean = new Bean( 1 );
+        ObjectIdSerializer<Integer> id = newId( 1 );
+        ObjectIdSerializer<Integer> stringId = newId( 2 );
+
+        assertNull( ctx.getObjectId( bean ) );
+        // without WeakMap, the ids are kept in an IdentityHashMap and the emulation of System.identityHashCode adds its own expando
+        System.identityHashCode( bean );
+        String properties = ownPropertyNames( bean );
+        ctx.addObjectId( bean, id );
+        ctx.addObjectId( "string", stringId );
+
+        assertSame( id, ctx.getObjectId( bean ) );
+        assertNull( ctx.getObjectId( new Bean( 1 ) ) );
+        assertSame( stringId, ctx.getObjectId( "string" ) );
+        // the context adds no property to the object
+        assertEquals( properties, ownPropertyNames( bean ) );
+
+        ctx.reset();
+        assertNull( ctx.getObjectId( bean ) );
+        assertNull( ctx.getObjectId( "string" ) );
+    }
+
+    public void testSerializationIdsByEquality() {
+        JsonSerializationContext ctx = JsonSerializationContext.builder().useEqualityForObjectId( true ).build();
+        ObjectIdSerializer<Integer> id = newId( 1 );
+
+        ctx.addObjectId( new Bean( 1 ), id );
+
+        assertSame( id, ctx.getObjectId( new Bean( 1 ) ) );
+        assertNull( ctx.getObjectId( new Bean( 2 ) ) );
+    }
+
+    public void testDeserializationScalarIds() {
+        JsonDeserializationContext ctx = JsonDeserializationContext.builder().build();
+        Object integerObject = new Object();
+        Object longObject = new Object();
+        Object stringObject = new Object();
+        Object listObject = new Object();
+
+        // same text but different types, they are different ids
+        ctx.addObjectId( new IdKey( IntSequenceGenerator.class, Bean.class, 1 ), integerObject );
+        ctx.addObjectId( new IdKey( IntSequenceGenerator.class, Bean.class, 1l ), longObject );
+        ctx.addObjectId( new IdKey( IntSequenceGenerator.class, Bean.class, "1" ), stringObject );
+        ctx.addObjectId( new IdKey( IntSequenceGenerator.class, Bean.class, Arrays.asList( 1 ) ), listObject );
+
+        assertSame( integerObject, ctx.getObjectWithId( new IdKey( IntSequenceGenerator.class, Bean.class, 1 ) ) );
+        assertSame( longObject, ctx.getObjectWithId( new IdKey( IntSequenceGenerator.class, Bean.class, 1l ) ) );
+        assertSame( stringObject, ctx.getObjectWithId( new IdKey( IntSequenceGenerator.class, Bean.class, "1" ) ) );
+        assertSame( listObject, ctx.getObjectWithId( new IdKey( IntSequenceGenerator.class, Bean.class, Arrays.asList( 1 ) ) ) );
+        assertNull( ctx.getObjectWithId( new IdKey( IntSequenceGenerator.class, Bean.class, (short) 1 ) ) );
+        assertNull( ctx.getObjectWithId( new IdKey( IntSequenceGenerator.class, Object.class, 1 ) ) );
+
+        // the keys used by the generated deserializers match the ones of the IdKey
+        String prefix = JsonDeserializationContext.scalarIdKeyPrefix( IntSequenceGenerator.class, Bean.class );
+        assertFalse( JsonDeserializationContext.scalarIdKey( prefix, 1 ).equals( JsonDeserializationContext.scalarIdKey( prefix, 1l ) ) );
+        assertNull( JsonDeserializationContext.scalarIdKey( prefix, Arrays.asList( 1 ) ) );
+    }
+
+    private static ObjectIdSerializer<Integer> newId( int id ) {
+        return new ObjectIdSerializer<Integer>( id, IntegerJsonSerializer.getInstance() );
+    }
+
+    private static native String ownPropertyNames( Object object ) /*-{
+        return Object.getOwnPropertyNames(object).join();
+    }-*/;
+}
@@ -17,6 +17,7 @@
 package com.github.nmorel.gwtjackson.client;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.github.nmorel.gwtjackson.client.mapper.StraightLineSerializerGwtTest.CharacterSerializer;
 import com.github.nmorel.gwtjackson.shared.mixins.MixinSerForMethodsTester.EmptyBean;
 import com.github.nmorel.gwtjackson.shared.mixins.MixinSerForMethodsTester.MixInForSimple;
 
@@ -36,6 +37,10 @@ public class TestConfiguration extends AbstractConfiguration {
         whitelist( "com.github.nmorel.gwtjackson.shared.advanced.ObjectTester.InnerObject" );
         whitelist( "com.github.nmorel.gwtjackson.shared.advanced.ObjectTester.Person" );
 
+        // straight-line serializer tests
+        straightLineBeanSerializers( true );
+        type( Character.class ).serializer( CharacterSerializer.class );
+
         // visibility
         setterVisibility( Visibility.PUBLIC_ONLY ).creatorVisibility( Visibility.ANY );
     }
@@ -51,6 +51,10 @@ public class TypeNamesGwtTest extends GwtJacksonTestCase {
         tester.testRoundTrip( AnimalArrayMapper.INSTANCE );
     }
 
+    public void testRoundTripRepeatedTypes() {
+        tester.testRoundTripRepeatedTypes( AnimalArrayMapper.INSTANCE );
+    }
+
     public void testRoundTripMap() {
         tester.testRoundTripMap( AnimalMapMapper.INSTANCE );
     }
@@ -24,6 +24,7 @@ import com.github.nmorel.gwtjackson.shared.ObjectMapperTester;
 import com.github.nmorel.gwtjackson.shared.ObjectReaderTester;
 import com.github.nmorel.gwtjackson.shared.ObjectWriterTester;
 import com.github.nmorel.gwtjackson.shared.annotations.JsonIgnoreTester;
+import com.github.nmorel.gwtjackson.shared.annotations.JsonIgnoreTester.BeanWithIgnorePropertiesAsListProperty;
 import com.github.nmorel.gwtjackson.shared.annotations.JsonIgnoreTester.BeanWithIgnorePropertiesAsProperty;
 import com.github.nmorel.gwtjackson.shared.annotations.JsonIgnoreTester.BeanWithIgnoredProperties;
 import com.google.gwt.core.client.GWT;
@@ -57,6 +58,12 @@ public class JsonIgnoreGwtTest extends GwtJacksonTestCase {
         static BeanWithIgnorePropertiesAsPropertyReader INSTANCE = GWT.create( BeanWithIgnorePropertiesAsPropertyReader.class );
     }
 
+    public interface BeanWithIgnorePropertiesAsListPropertyMapper extends ObjectMapper<BeanWithIgnorePropertiesAsListProperty>,
+            ObjectMapperTester<BeanWithIgnorePropertiesAsListProperty> {
+
+        static BeanWithIgnorePropertiesAsListPropertyMapper INSTANCE = GWT.create( BeanWithIgnorePropertiesAsListPropertyMapper.class );
+    }
+
     private JsonIgnoreTester tester = JsonIgnoreTester.INSTANCE;
 
     public void testSerializeBeanWithIgnoredProperties() {
@@ -78,4 +85,12 @@ public class JsonIgnoreGwtTest extends GwtJacksonTestCase {
     public void testDeserializeBeanWithIgnorePropertiesAsProperty() {
         JsonIgnoreTester.INSTANCE.testDeserializeBeanWithIgnorePropertiesAsProperty( BeanWithIgnorePropertiesAsPropertyReader.INSTANCE );
     }
+
+    public void testSerializeBeanWithIgnorePropertiesAsListProperty() {
+        tester.testSerializeBeanWithIgnorePropertiesAsListProperty( BeanWithIgnorePropertiesAsListPropertyMapper.INSTANCE );
+    }
+
+    public void testDeserializeBeanWithIgnorePropertiesAsListProperty() {
+        tester.testDeserializeBeanWithIgnorePropertiesAsListProperty( BeanWithIgnorePropertiesAsListPropertyMapper.INSTANCE );
+    }
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.annotation;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.ObjectReader;
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * @author Nicolas Morel
+ */
+public class JsonPropertyRequiredGwtTest extends GwtJacksonTestCase {
+
+    /**
+     * More required properties than the bits of an int
+     */
+    public static class BeanWithManyRequiredProperties {
+
+        @JsonProperty(required = true)
+        public int p0;
+
+        @JsonProperty(required = true)
+        public int p1;
+
+        @JsonProperty(required = true)
+        public int p2;
+
+        @JsonProperty(required = true)
+        public int p3;
+
+        @JsonProperty(required = true)
+        public int p4;
+
+        @JsonProperty(required = true)
+        public int p5;
+
+        @JsonProperty(required = true)
+        public int p6;
+
+        @JsonProperty(required = true)
+        public int p7;
+
+        @JsonProperty(required = true)
+        public int p8;
+
+        @JsonProperty(required = true)
+        public int p9;
+
+        @JsonProperty(required = true)
+        public int p10;
+
+        @JsonProperty(required = true)
+        public int p11;
+
+        @JsonProperty(required = true)
+        public int p12;
+
+        @JsonProperty(required = true)
+        public int p13;
+
+        @JsonProperty(required = true)
+        public int p14;
+
+        @JsonProperty(required = true)
+        public int p15;
+
+        @JsonProperty(required = true)
+        public int p16;
+
+        @JsonProperty(required = true)
+        public int p17;
+
+        @JsonProperty(required = true)
+        public int p18;
+
+        @JsonProperty(required = true)
+        public int p19;
+
+        @JsonProperty(required = true)
+        public int p20;
+
+        @JsonProperty(required = true)
+        public int p21;
+
+        @JsonProperty(required = true)
+        public int p22;
+
+        @JsonProperty(required = true)
+        public int p23;
+
+        @JsonProperty(required = true)
+        public int p24;
+
+        @JsonProperty(required = true)
+        public int p25;
+
+        @JsonProperty(required = true)
+        public int p26;
+
+        @JsonProperty(required = true)
+        public int p27;
+
+        @JsonProperty(required = true)
+        public int p28;
+
+        @JsonProperty(required = true)
+        public int p29;
+
+        @JsonProperty(required = true)
+        public int p30;
+
+        @JsonProperty(required = true)
+        public int p31;
+
+        @JsonProperty(required = true)
+        public int p32;
+
+        @JsonProperty(required = true)
+        public int p33;
+    }
+
+    public interface BeanWithManyRequiredPropertiesReader extends ObjectReader<BeanWithManyRequiredProperties> {
+
+        static BeanWithManyRequiredPropertiesReader INSTANCE = GWT.create( BeanWithManyRequiredPropertiesReader.class );
+    }
+
+    /**
+     * @return an input containing all the properties in reverse order except the missing one
+     */
+    private String inputWithout( int missing ) {
+        StringBuilder input = new StringBuilder();
+        for ( int i = 33; i >= 0; i-- ) {
+            if ( i != missing ) {
+                input.append( input.length() == 0 ? "{" : "," ).append( "\"p" ).append( i ).append( "\":" ).append( i );
+            }
+        }
+        return input.append( "}" ).toString();
+    }
+
+    public void testDeserializeAllRequiredProperties() {
+        BeanWithManyRequiredProperties bean = BeanWithManyRequiredPropertiesReader.INSTANCE.read( inputWithout( -1 ) );
+        assertEquals( 0, bean.p0 );
+        assertEquals( 31, bean.p31 );
+        assertEquals( 32, bean.p32 );
+        assertEquals( 33, bean.p33 );
+    }
+
+    public void testDeserializeMissingRequiredProperty() {
+        for ( int missing : new int[]{0, 31, 32, 33} ) {
+            try {
+                BeanWithManyRequiredPropertiesReader.INSTANCE.read( inputWithout( missing ) );
+                fail( "Expected an exception because the required property p" + missing + " is missing" );
+            } catch ( JsonDeserializationException e ) {
+                assertEquals( "Required properties are missing : [p" + missing + "]", e.getMessage() );
+            }
+        }
+    }
+}
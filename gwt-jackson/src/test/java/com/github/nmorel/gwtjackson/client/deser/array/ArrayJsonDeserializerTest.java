@@ -45,4 +45,14 @@ public class ArrayJsonDeserializerTest extends AbstractJsonDeserializerTest<Stri
         assertTrue( Arrays.deepEquals( new String[0], deserialize( "[]" ) ) );
     }
 
+    public void testDeserializeKeepsArrayType() {
+        Object[] array = deserialize( "[\"Hello\"]" );
+        assertEquals( String[].class, array.getClass() );
+        try {
+            array[0] = 1;
+            fail( "Expected an ArrayStoreException" );
+        } catch ( ArrayStoreException e ) {
+        }
+    }
+
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.deser.array;
+
+import java.util.Arrays;
+
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.AbstractJsonDeserializerTest;
+import com.github.nmorel.gwtjackson.client.deser.array.dd.PrimitiveDoubleArray2dJsonDeserializer;
+
+/**
+ * @author Nicolas Morel
+ */
+public class DoubleArray2dJsonDeserializerTest extends AbstractJsonDeserializerTest<double[][]> {
+
+    @Override
+    protected JsonDeserializer<double[][]> createDeserializer() {
+        return PrimitiveDoubleArray2dJsonDeserializer.getInstance();
+    }
+
+    @Override
+    public void testDeserializeValue() {
+        double[][] array = deserialize( "[[1.5, -2, null], [3e2, 0.25, 4], [7, \"8.5\", 9]]" );
+        assertEquals( 3, array.length );
+        assertTrue( Arrays.equals( new double[]{1.5, -2, 0}, array[0] ) );
+        assertTrue( Arrays.equals( new double[]{300, 0.25, 4}, array[1] ) );
+        assertTrue( Arrays.equals( new double[]{7, 8.5, 9}, array[2] ) );
+        assertEquals( double[][].class, array.getClass() );
+        assertEquals( double[].class, array[0].getClass() );
+
+        assertEquals( 0, deserialize( "[]" ).length );
+    }
+}
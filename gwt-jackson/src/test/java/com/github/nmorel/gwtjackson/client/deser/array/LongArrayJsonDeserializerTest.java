@@ -0,0 +1,43 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.deser.array;
+
+import java.util.Arrays;
+
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.AbstractJsonDeserializerTest;
+
+/**
+ * @author Nicolas Morel
+ */
+public class LongArrayJsonDeserializerTest extends AbstractJsonDeserializerTest<long[]> {
+
+    @Override
+    protected JsonDeserializer<long[]> createDeserializer() {
+        return PrimitiveLongArrayJsonDeserializer.getInstance();
+    }
+
+    @Override
+    public void testDeserializeValue() {
+        long[] array = deserialize( "[9223372036854775807, null, -42, \"-9223372036854775808\"]" );
+        assertTrue( Arrays.equals( new long[]{Long.MAX_VALUE, 0, -42, Long.MIN_VALUE}, array ) );
+        assertEquals( long[].class, array.getClass() );
+        assertEquals( Long.MAX_VALUE - 1, array[0] - 1 );
+
+        assertEquals( 0, deserialize( "[]" ).length );
+    }
+}
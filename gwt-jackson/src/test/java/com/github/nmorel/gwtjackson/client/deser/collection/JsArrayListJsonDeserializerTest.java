@@ -0,0 +1,69 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.deser.collection;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.AbstractJsonDeserializerTest;
+import com.github.nmorel.gwtjackson.client.deser.StringJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.utils.JsArrayList;
+
+/**
+ * @author Nicolas Morel
+ */
+public class JsArrayListJsonDeserializerTest extends AbstractJsonDeserializerTest<List<String>> {
+
+    @Override
+    protected JsonDeserializer<List<String>> createDeserializer() {
+        return JsArrayListJsonDeserializer.newInstance( StringJsonDeserializer.getInstance() );
+    }
+
+    @Override
+    public void testDeserializeValue() {
+        assertDeserialization( Arrays.asList( "Hello", " ", "World", "!" ), "[Hello, \" \", \"World\", \"!\"]" );
+        assertDeserialization( Arrays.asList( "Hello", null, "World" ), "[\"Hello\", null, \"World\"]" );
+        assertDeserialization( Collections.<String>emptyList(), "[]" );
+    }
+
+    public void testListOperations() {
+        List<String> list = deserialize( "[\"a\", \"b\", \"c\"]" );
+        assertTrue( list instanceof JsArrayList );
+        assertEquals( 3, list.size() );
+        assertEquals( "b", list.get( 1 ) );
+
+        list.add( 1, "d" );
+        assertEquals( Arrays.asList( "a", "d", "b", "c" ), list );
+        assertEquals( "b", list.set( 2, "e" ) );
+        assertEquals( "a", list.remove( 0 ) );
+        assertEquals( Arrays.asList( "d", "e", "c" ), list );
+        assertEquals( 2, list.indexOf( "c" ) );
+
+        try {
+            list.get( 3 );
+            fail( "IndexOutOfBoundsException expected" );
+        } catch ( IndexOutOfBoundsException e ) {
+            // expected
+        }
+
+        list.clear();
+        assertTrue( list.isEmpty() );
+    }
+
+}
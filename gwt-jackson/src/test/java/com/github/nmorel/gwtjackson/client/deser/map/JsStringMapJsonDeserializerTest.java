@@ -0,0 +1,116 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nmorel.gwtjackson.client.deser.map;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.AbstractJsonDeserializerTest;
+import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.IntegerJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.map.key.BaseNumberKeyDeserializer.IntegerKeyDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.map.key.StringKeyDeserializer;
+import com.github.nmorel.gwtjackson.client.utils.JsStringMap;
+
+/**
+ * @author Nicolas Morel
+ */
+public class JsStringMapJsonDeserializerTest extends AbstractJsonDeserializerTest<Map<String, Integer>> {
+
+    @Override
+    protected JsonDeserializer<Map<String, Integer>> createDeserializer() {
+        return JsStringMapJsonDeserializer.newInstance( StringKeyDeserializer.getInstance(), IntegerJsonDeserializer.getInstance() );
+    }
+
+    @Override
+    public void testDeserializeValue() {
+        Map<String, Integer> expected = new LinkedHashMap<String, Integer>();
+        expected.put( "one", 1 );
+        expected.put( "", null );
+        expected.put( "__proto__", 3 );
+        expected.put( "toString", 4 );
+
+        Map<String, Integer> result = deserialize( "{\"one\":1,\"\":null,\"__proto__\":3,\"toString\":4}" );
+        assertTrue( result instanceof JsStringMap );
+        assertEquals( expected, result );
+        assertEquals( Arrays.asList( "one", "", "__proto__", "toString" ), Arrays.asList( result.keySet().toArray() ) );
+
+        assertEquals( new LinkedHashMap<String, Integer>(), deserialize( "{}" ) );
+    }
+
+    public void testMapOperations() {
+        Map<String, Integer> map = deserialize( "{\"b\":1,\"a\":2,\"10\":3}" );
+        assertEquals( 3, map.size() );
+        assertEquals( Integer.valueOf( 2 ), map.get( "a" ) );
+        assertNull( map.get( "hasOwnProperty" ) );
+        assertNull( map.get( 10 ) );
+        assertFalse( map.containsKey( "constructor" ) );
+
+        // the keys keep their insertion order, even the integer-like ones
+        assertEquals( Arrays.asList( "b", "a", "10" ), Arrays.asList( map.keySet().toArray() ) );
+
+        assertEquals( Integer.valueOf( 1 ), map.put( "b", 4 ) );
+        assertNull( map.put( "c", null ) );
+        assertTrue( map.containsKey( "c" ) );
+        assertEquals( 4, map.size() );
+
+        assertEquals( Integer.valueOf( 2 ), map.remove( "a" ) );
+        assertNull( map.remove( "a" ) );
+        assertEquals( 3, map.size() );
+
+        // a re-inserted key keeps its place, a removed then re-added key moves to the end
+        assertNull( map.put( "a", 6 ) );
+        assertEquals( Arrays.asList( "b", "10", "c", "a" ), Arrays.asList( map.keySet().toArray() ) );
+        assertEquals( Integer.valueOf( 6 ), map.remove( "a" ) );
+
+        Iterator<Entry<String, Integer>> iterator = map.entrySet().iterator();
+        Entry<String, Integer> entry = iterator.next();
+        assertEquals( "b", entry.getKey() );
+        assertEquals( Integer.valueOf( 4 ), entry.setValue( 5 ) );
+        assertEquals( Integer.valueOf( 5 ), map.get( "b" ) );
+        iterator.next();
+        iterator.remove();
+        assertFalse( map.containsKey( "10" ) );
+        assertEquals( 2, map.size() );
+
+        try {
+            map.put( null, 1 );
+            fail( "NullPointerException expected" );
+        } catch ( NullPointerException e ) {
+            // expected
+        }
+
+        map.clear();
+        assertTrue( map.isEmpty() );
+        assertFalse( map.containsKey( "b" ) );
+    }
+
+    public void testDeserializeNonStringKeys() {
+        JsonDeserializer<Map<Integer, Integer>> deserializer = JsStringMapJsonDeserializer.newInstance( IntegerKeyDeserializer
+                .getInstance(), IntegerJsonDeserializer.getInstance() );
+        JsonDeserializationContext ctx = JsonDeserializationContext.builder().build();
+        Map<Integer, Integer> result = deserializer.deserialize( ctx.newJsonReader( "{\"1\":2,\"3\":4}" ), ctx );
+
+        assertTrue( result instanceof LinkedHashMap );
+        assertEquals( Integer.valueOf( 2 ), result.get( 1 ) );
+        assertEquals( Integer.valueOf( 4 ), result.get( 3 ) );
+    }
+
+}
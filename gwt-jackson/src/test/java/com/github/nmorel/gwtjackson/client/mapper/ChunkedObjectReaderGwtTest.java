@@ -0,0 +1,188 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.nmorel.gwtjackson.client.ChunkedObjectReader;
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.ObjectReader;
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * @author Nicolas Morel
+ */
+public class ChunkedObjectReaderGwtTest extends GwtJacksonTestCase {
+
+    public static class Row {
+
+        public int id;
+
+        public String label;
+    }
+
+    public interface RowReader extends ObjectReader<Row> {
+
+        static RowReader INSTANCE = GWT.create( RowReader.class );
+    }
+
+    public interface IntegerReader extends ObjectReader<Integer> {
+
+        static IntegerReader INSTANCE = GWT.create( IntegerReader.class );
+    }
+
+    private static class Collector<T> implements ChunkedObjectReader.Callback<T> {
+
+        private final List<T> values = new ArrayList<T>();
+
+        @Override
+        public void onRead( T value ) {
+            values.add( value );
+        }
+    }
+
+    public void testArrayElementsReadAsSoonAsComplete() {
+        Collector<Row> rows = new Collector<Row>();
+        ChunkedObjectReader<Row> reader = RowReader.INSTANCE.newChunkedArrayReader( rows );
+
+        reader.feed( " [ {\"id\":1,\"label\":\"a ]}\\\"" );
+        assertEquals( 0, rows.values.size() );
+        reader.feed( "b\"}, {\"id\":2" );
+        assertEquals( 1, rows.values.size() );
+        assertEquals( 1, rows.values.get( 0 ).id );
+        assertEquals( "a ]}\"b", rows.values.get( 0 ).label );
+        reader.feed( ",\"label\":null},null]" );
+        assertEquals( 3, rows.values.size() );
+        assertEquals( 2, rows.values.get( 1 ).id );
+        assertNull( rows.values.get( 1 ).label );
+        assertNull( rows.values.get( 2 ) );
+        reader.end();
+    }
+
+    public void testArrayElementsFedCharByChar() {
+        Collector<Integer> values = new Collector<Integer>();
+        ChunkedObjectReader<Integer> reader = IntegerReader.INSTANCE.newChunkedArrayReader( values );
+
+        String input = "[1, 22,333 ,\"4444\"]";
+        for ( int i = 0; i < input.length(); i++ ) {
+            reader.feed( input.substring( i, i + 1 ) );
+        }
+        reader.end();
+
+        assertEquals( 4, values.values.size() );
+        assertEquals( 1, (int) values.values.get( 0 ) );
+        assertEquals( 22, (int) values.values.get( 1 ) );
+        assertEquals( 333, (int) values.values.get( 2 ) );
+        assertEquals( 4444, (int) values.values.get( 3 ) );
+    }
+
+    public void testSingleValue() {
+        Collector<Row> rows = new Collector<Row>();
+        JsonDeserializationContext ctx = JsonDeserializationContext.builder().unwrapRootValue( true ).build();
+        ChunkedObjectReader<Row> reader = RowReader.INSTANCE.newChunkedReader( rows, ctx );
+
+        reader.feed( "{\"Row\":{\"id\":5,\"lab" );
+        reader.feed( "el\":\"e\"}" );
+        assertEquals( 0, rows.values.size() );
+        reader.feed( "}" );
+        assertEquals( 1, rows.values.size() );
+        assertEquals( 5, rows.values.get( 0 ).id );
+        assertEquals( "e", rows.values.get( 0 ).label );
+        reader.end();
+
+        Collector<Integer> values = new Collector<Integer>();
+        ChunkedObjectReader<Integer> integerReader = IntegerReader.INSTANCE.newChunkedReader( values );
+        integerReader.feed( "12" );
+        integerReader.feed( "3" );
+        assertEquals( 0, values.values.size() );
+        integerReader.end();
+        assertEquals( 123, (int) values.values.get( 0 ) );
+    }
+
+    public void testInvalidSeparators() {
+        for ( String input : new String[]{"[1 2]", "[1,,2]", "[,1]", "[1,]", "[1 \"2\"]"} ) {
+            assertInvalidInput( IntegerReader.INSTANCE, input );
+        }
+        for ( String input : new String[]{"[{\"id\":1}{\"id\":2}]", "[{\"id\":1 \"label\":\"a\"}]"} ) {
+            assertInvalidInput( RowReader.INSTANCE, input );
+        }
+    }
+
+    private <T> void assertInvalidInput( ObjectReader<T> objectReader, String input ) {
+        ChunkedObjectReader<T> reader = objectReader.newChunkedArrayReader( new Collector<T>() );
+        try {
+            for ( int i = 0; i < input.length(); i++ ) {
+                reader.feed( input.substring( i, i + 1 ) );
+            }
+            reader.end();
+            fail( input );
+        } catch ( JsonDeserializationException e ) {
+            // expected exception
+        }
+    }
+
+    public void testCallbackException() {
+        final RuntimeException callbackException = new IllegalStateException();
+        ChunkedObjectReader<Integer> reader = IntegerReader.INSTANCE.newChunkedArrayReader( new ChunkedObjectReader.Callback<Integer>() {
+            @Override
+            public void onRead( Integer value ) {
+                throw callbackException;
+            }
+        } );
+        try {
+            reader.feed( "[1," );
+            fail();
+        } catch ( RuntimeException e ) {
+            // the exception of the callback is not reported as a read failure
+            assertSame( callbackException, e );
+        }
+    }
+
+    public void testValuesReadBeforeFailure() {
+        Collector<Integer> values = new Collector<Integer>();
+        ChunkedObjectReader<Integer> reader = IntegerReader.INSTANCE.newChunkedArrayReader( values );
+        try {
+            reader.feed( "[1,2,\"a\"," );
+            fail();
+        } catch ( JsonDeserializationException e ) {
+            // expected exception
+        }
+        assertEquals( 2, values.values.size() );
+    }
+
+    public void testIncompleteInput() {
+        ChunkedObjectReader<Row> reader = RowReader.INSTANCE.newChunkedArrayReader( new Collector<Row>() );
+        reader.feed( "[{\"id\":1}" );
+        try {
+            reader.end();
+            fail();
+        } catch ( JsonDeserializationException e ) {
+            // expected exception
+        }
+
+        reader = RowReader.INSTANCE.newChunkedArrayReader( new Collector<Row>() );
+        try {
+            reader.feed( "{\"id\":1}" );
+            fail();
+        } catch ( JsonDeserializationException e ) {
+            // expected exception
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.mapper;
+
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
+import com.github.nmorel.gwtjackson.client.JsonSession;
+import com.github.nmorel.gwtjackson.client.ObjectMapper;
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * @author Nicolas Morel
+ */
+public class JsonSessionGwtTest extends GwtJacksonTestCase {
+
+    @JsonIdentityInfo( generator = ObjectIdGenerators.IntSequenceGenerator.class, property = "@id" )
+    public static class Node {
+
+        public String label;
+
+        public Node next;
+    }
+
+    public interface NodeMapper extends ObjectMapper<Node> {
+
+        static NodeMapper INSTANCE = GWT.create( NodeMapper.class );
+    }
+
+    public void testReadSuccessiveInputs() {
+        JsonSession session = JsonSession.create();
+
+        Node node = NodeMapper.INSTANCE.read( "{\"@id\":1,\"label\":\"a\",\"next\":1}", session );
+        assertEquals( "a", node.label );
+        assertSame( node, node.next );
+
+        // the id 1 from the previous input must not be resolved
+        node = NodeMapper.INSTANCE.read( "{\"@id\":1,\"label\":\"b\",\"next\":{\"@id\":2,\"label\":\"c\"}}", session );
+        assertEquals( "b", node.label );
+        assertEquals( "c", node.next.label );
+    }
+
+    public void testReadAfterFailure() {
+        JsonSession session = JsonSession.create();
+
+        try {
+            NodeMapper.INSTANCE.read( "{\"@id\":1,\"label\":[", session );
+            fail();
+        } catch ( JsonDeserializationException e ) {
+            // expected exception
+        }
+
+        Node node = NodeMapper.INSTANCE.read( "{\"@id\":1,\"label\":\"a\"}", session );
+        assertEquals( "a", node.label );
+    }
+
+    public void testWriteSuccessiveValues() {
+        JsonSession session = JsonSession.create( JsonDeserializationContext.builder().build(), JsonSerializationContext.builder()
+                .wrapRootValue( true ).build() );
+
+        Node node = new Node();
+        node.label = "a";
+        node.next = node;
+        assertEquals( "{\"Node\":{\"@id\":1,\"label\":\"a\",\"next\":1}}", NodeMapper.INSTANCE.write( node, session ) );
+
+        // the ids of the previous output must not be reused
+        assertEquals( "{\"Node\":{\"@id\":1,\"label\":\"a\",\"next\":1}}", NodeMapper.INSTANCE.write( node, session ) );
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.mapper;
+
+/**
+ * Runs the tests of {@link StraightLineSerializerGwtTest} in a module generating the bean serializers without their straight-line
+ * {@code serializeAllProperties}.
+ *
+ * @author Nicolas Morel
+ */
+public class LoopSerializerGwtTest extends StraightLineSerializerGwtTest {
+
+    @Override
+    public String getModuleName() {
+        return "com.github.nmorel.gwtjackson.GwtJacksonLoopSerializerTest";
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.mapper;
+
+import java.util.List;
+
+import com.github.nmorel.gwtjackson.client.AsyncReadCallback;
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.ObjectReader;
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * @author Nicolas Morel
+ */
+public class ReadAsyncGwtTest extends GwtJacksonTestCase {
+
+    public static class Row {
+
+        public int id;
+
+        public String label;
+    }
+
+    public interface RowReader extends ObjectReader<Row> {
+
+        static RowReader INSTANCE = GWT.create( RowReader.class );
+    }
+
+    public interface RowListReader extends ObjectReader<List<Row>> {
+
+        static RowListReader INSTANCE = GWT.create( RowListReader.class );
+    }
+
+    private abstract class SuccessCallback<T> implements AsyncReadCallback<T> {
+
+        @Override
+        public void onFailure( RuntimeException exception ) {
+            fail( exception.getMessage() );
+        }
+    }
+
+    public void testReadCollection() {
+        StringBuilder input = new StringBuilder( "[" );
+        for ( int i = 0; i < 5000; i++ ) {
+            input.append( "{\"id\":" ).append( i ).append( ",\"label\":\"row" ).append( i ).append( "\"}," );
+        }
+        input.append( "null]" );
+
+        delayTestFinish( 10000 );
+        RowListReader.INSTANCE.readAsync( input.toString(), new SuccessCallback<List<Row>>() {
+            @Override
+            public void onSuccess( List<Row> result ) {
+                assertEquals( 5001, result.size() );
+                assertEquals( 0, result.get( 0 ).id );
+                assertEquals( "row4999", result.get( 4999 ).label );
+                assertNull( result.get( 5000 ) );
+                finishTest();
+            }
+        } );
+    }
+
+    public void testReadUnwrappedBean() {
+        JsonDeserializationContext ctx = JsonDeserializationContext.builder().unwrapRootValue( true ).build();
+
+        delayTestFinish( 10000 );
+        RowReader.INSTANCE.readAsync( "{\"Row\":{\"id\":1,\"label\":\"a\"}}", ctx, new SuccessCallback<Row>() {
+            @Override
+            public void onSuccess( Row result ) {
+                assertEquals( 1, result.id );
+                assertEquals( "a", result.label );
+                finishTest();
+            }
+        } );
+    }
+
+    public void testFailure() {
+        delayTestFinish( 10000 );
+        RowListReader.INSTANCE.readAsync( "[{\"id\":1},{\"id\":\"not a number\"}]", new AsyncReadCallback<List<Row>>() {
+            @Override
+            public void onSuccess( List<Row> result ) {
+                fail();
+            }
+
+            @Override
+            public void onFailure( RuntimeException exception ) {
+                assertTrue( exception instanceof JsonDeserializationException );
+                finishTest();
+            }
+        } );
+    }
+}
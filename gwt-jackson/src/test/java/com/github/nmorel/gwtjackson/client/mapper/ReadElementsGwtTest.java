@@ -0,0 +1,94 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.mapper;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.ObjectReader;
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * @author Nicolas Morel
+ */
+public class ReadElementsGwtTest extends GwtJacksonTestCase {
+
+    public static class Row {
+
+        public int id;
+
+        public String label;
+    }
+
+    public interface RowReader extends ObjectReader<Row> {
+
+        static RowReader INSTANCE = GWT.create( RowReader.class );
+    }
+
+    public void testReadElements() {
+        Iterator<Row> rows = RowReader.INSTANCE.readElements( "[{\"id\":1,\"label\":\"a\"},null,{\"id\":3}]" );
+
+        assertTrue( rows.hasNext() );
+        Row row = rows.next();
+        assertEquals( 1, row.id );
+        assertEquals( "a", row.label );
+
+        assertTrue( rows.hasNext() );
+        assertNull( rows.next() );
+
+        row = rows.next();
+        assertEquals( 3, row.id );
+        assertNull( row.label );
+
+        assertFalse( rows.hasNext() );
+        try {
+            rows.next();
+            fail();
+        } catch ( NoSuchElementException e ) {
+            // expected exception
+        }
+    }
+
+    public void testElementsReadOnDemand() {
+        Iterator<Row> rows = RowReader.INSTANCE.readElements( "[{\"id\":1},{\"id\":\"not a number\"}]" );
+
+        assertEquals( 1, rows.next().id );
+        try {
+            rows.next();
+            fail();
+        } catch ( JsonDeserializationException e ) {
+            // expected exception
+        }
+    }
+
+    public void testSingleValue() {
+        try {
+            RowReader.INSTANCE.readElements( "{\"id\":1}" );
+            fail();
+        } catch ( JsonDeserializationException e ) {
+            // expected exception
+        }
+
+        JsonDeserializationContext ctx = JsonDeserializationContext.builder().acceptSingleValueAsArray( true ).build();
+        Iterator<Row> rows = RowReader.INSTANCE.readElements( "{\"id\":1}", ctx );
+        assertEquals( 1, rows.next().id );
+        assertFalse( rows.hasNext() );
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.mapper;
+
+import javax.annotation.Nonnull;
+
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
+import com.github.nmorel.gwtjackson.client.JsonSerializer;
+import com.github.nmorel.gwtjackson.client.JsonSerializerParameters;
+import com.github.nmorel.gwtjackson.client.ObjectWriter;
+import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+import com.github.nmorel.gwtjackson.shared.ObjectWriterTester;
+import com.github.nmorel.gwtjackson.shared.mapper.StraightLineSerializerTester;
+import com.github.nmorel.gwtjackson.shared.mapper.StraightLineSerializerTester.MixedPropertiesBean;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * Tests the bean serializers with their straight-line {@code serializeAllProperties}. {@link LoopSerializerGwtTest} runs the same
+ * tests without it.
+ *
+ * @author Nicolas Morel
+ */
+public class StraightLineSerializerGwtTest extends GwtJacksonTestCase {
+
+    /**
+     * Serializer configured for {@link Character} in {@link com.github.nmorel.gwtjackson.client.TestConfiguration}. Its instance is
+     * returned as a {@code JsonSerializer<?>} so it can't be called directly with the value of a property.
+     */
+    public static final class CharacterSerializer extends JsonSerializer<Character> {
+
+        private static final CharacterSerializer INSTANCE = new CharacterSerializer();
+
+        public static JsonSerializer<?> getInstance() {
+            return INSTANCE;
+        }
+
+        private CharacterSerializer() { }
+
+        @Override
+        protected void doSerialize( JsonWriter writer, @Nonnull Character value, JsonSerializationContext ctx, JsonSerializerParameters
+                params ) {
+            writer.value( value.toString() );
+        }
+    }
+
+    public interface MixedPropertiesBeanWriter extends ObjectWriter<MixedPropertiesBean>, ObjectWriterTester<MixedPropertiesBean> {
+
+        static MixedPropertiesBeanWriter INSTANCE = GWT.create( MixedPropertiesBeanWriter.class );
+    }
+
+    public void testSerializeValue() {
+        StraightLineSerializerTester.INSTANCE.testSerializeValue( MixedPropertiesBeanWriter.INSTANCE );
+    }
+
+    public void testSerializeEmptyValue() {
+        StraightLineSerializerTester.INSTANCE.testSerializeEmptyValue( MixedPropertiesBeanWriter.INSTANCE );
+    }
+}
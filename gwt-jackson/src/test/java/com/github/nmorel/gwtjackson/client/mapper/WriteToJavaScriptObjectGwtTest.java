@@ -0,0 +1,164 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.mapper;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
+import com.github.nmorel.gwtjackson.client.ObjectMapper;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsonUtils;
+
+/**
+ * @author Nicolas Morel
+ */
+public class WriteToJavaScriptObjectGwtTest extends GwtJacksonTestCase {
+
+    public static class Item {
+
+        public String label;
+
+        public BigDecimal price;
+
+        public List<Integer> quantities;
+
+        public Item next;
+    }
+
+    public interface ItemMapper extends ObjectMapper<Item> {
+
+        static ItemMapper INSTANCE = GWT.create( ItemMapper.class );
+    }
+
+    public static class Histogram {
+
+        public String name;
+
+        public int[] counts;
+    }
+
+    public interface HistogramMapper extends ObjectMapper<Histogram> {
+
+        static HistogramMapper INSTANCE = GWT.create( HistogramMapper.class );
+    }
+
+    private static native String label( JavaScriptObject item ) /*-{
+        return item.label;
+    }-*/;
+
+    private static native int quantity( JavaScriptObject item, int index ) /*-{
+        return item.quantities[index];
+    }-*/;
+
+    /**
+     * Uses the native structured clone, used by postMessage and IndexedDB, when the browser has it. Otherwise, a copy of the own
+     * properties fails like the structured clone on the values that can't be cloned.
+     */
+    private static native JavaScriptObject structuredClone( JavaScriptObject value ) /*-{
+        if (typeof $wnd.structuredClone === 'function') {
+            return $wnd.structuredClone(value);
+        }
+        var clone = function (v) {
+            if (typeof v === 'function') {
+                throw new Error('DataCloneError: a function could not be cloned');
+            }
+            if (v === null || typeof v !== 'object') {
+                return v;
+            }
+            var copy = v instanceof Array ? [] : {};
+            for (var key in v) {
+                if (Object.prototype.hasOwnProperty.call(v, key)) {
+                    copy[key] = clone(v[key]);
+                }
+            }
+            return copy;
+        };
+        return clone(value);
+    }-*/;
+
+    private static native int countAt( JavaScriptObject histogram, int index ) /*-{
+        return histogram.counts[index];
+    }-*/;
+
+    private static native int ownPropertiesOfCounts( JavaScriptObject histogram ) /*-{
+        var count = 0;
+        for (var key in histogram.counts) {
+            if (Object.prototype.hasOwnProperty.call(histogram.counts, key)) {
+                count++;
+            }
+        }
+        return count;
+    }-*/;
+
+    private Item newItem() {
+        Item item = new Item();
+        item.label = "a \"b\"";
+        item.quantities = Arrays.asList( 1, 2 );
+        item.next = new Item();
+        item.next.label = "c";
+        return item;
+    }
+
+    public void testWriteToJavaScriptObject() {
+        JavaScriptObject object = ItemMapper.INSTANCE.writeToJavaScriptObject( newItem(), JsonSerializationContext.builder()
+                .serializeNulls( false ).build() );
+        assertEquals( "a \"b\"", label( object ) );
+        assertEquals( 2, quantity( object, 1 ) );
+        assertEquals( "{\"label\":\"a \\\"b\\\"\",\"quantities\":[1,2],\"next\":{\"label\":\"c\"}}", JsonUtils.stringify( object ) );
+    }
+
+    public void testWriteToJavaScriptObjectWithRawValues() {
+        Item item = newItem();
+        item.price = new BigDecimal( "10.5" );
+
+        JavaScriptObject object = ItemMapper.INSTANCE.writeToJavaScriptObject( item, JsonSerializationContext.builder()
+                .serializeNulls( true ).wrapRootValue( true ).build() );
+        assertEquals( "{\"Item\":{\"label\":\"a \\\"b\\\"\",\"price\":10.5,\"quantities\":[1,2],\"next\":{\"label\":\"c\"," +
+                "\"price\":null,\"quantities\":null,\"next\":null}}}", JsonUtils.stringify( object ) );
+    }
+
+    public void testWriteWithNativeStringify() {
+        Item item = newItem();
+        item.price = new BigDecimal( "10.50" );
+
+        String json = ItemMapper.INSTANCE.write( item, JsonSerializationContext.builder().serializeNulls( false )
+                .useNativeStringify( true ).build() );
+        assertEquals( "{\"label\":\"a \\\"b\\\"\",\"price\":10.50,\"quantities\":[1,2],\"next\":{\"label\":\"c\"}}", json );
+
+        assertEquals( json, ItemMapper.INSTANCE.write( item, JsonSerializationContext.builder().serializeNulls( false ).build() ) );
+    }
+
+    public void testWritePrimitiveArrayToJavaScriptObject() {
+        Histogram histogram = new Histogram();
+        histogram.name = "h";
+        histogram.counts = new int[]{3, 1, 2};
+
+        JavaScriptObject object = HistogramMapper.INSTANCE.writeToJavaScriptObject( histogram );
+
+        // the tree doesn't share the array of the bean
+        histogram.counts[0] = 10;
+        assertEquals( 3, countAt( object, 0 ) );
+        assertEquals( 3, ownPropertiesOfCounts( object ) );
+
+        JavaScriptObject clone = structuredClone( object );
+        assertEquals( "{\"name\":\"h\",\"counts\":[3,1,2]}", JsonUtils.stringify( clone ) );
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
+import com.github.nmorel.gwtjackson.client.ObjectMapper;
+import com.github.nmorel.gwtjackson.client.stream.JsonSink;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * @author Nicolas Morel
+ */
+public class WriteToSinkGwtTest extends GwtJacksonTestCase {
+
+    public static class Item {
+
+        public int id;
+
+        public String label;
+    }
+
+    public interface ItemListMapper extends ObjectMapper<List<Item>> {
+
+        static ItemListMapper INSTANCE = GWT.create( ItemListMapper.class );
+    }
+
+    private static class ListSink implements JsonSink {
+
+        private final List<String> chunks = new ArrayList<String>();
+
+        @Override
+        public void write( String chunk ) {
+            chunks.add( chunk );
+        }
+
+        private String join() {
+            StringBuilder builder = new StringBuilder();
+            for ( String chunk : chunks ) {
+                builder.append( chunk );
+            }
+            return builder.toString();
+        }
+    }
+
+    private List<Item> newItems() {
+        List<Item> items = new ArrayList<Item>();
+        for ( int i = 0; i < 100; i++ ) {
+            Item item = new Item();
+            item.id = i;
+            item.label = "item " + i;
+            items.add( item );
+        }
+        return items;
+    }
+
+    public void testWriteToSink() {
+        List<Item> items = newItems();
+        ListSink sink = new ListSink();
+        ItemListMapper.INSTANCE.write( items, sink, JsonSerializationContext.builder().sinkChunkSize( 256 ).build() );
+
+        assertTrue( sink.chunks.size() > 1 );
+        for ( int i = 0; i < sink.chunks.size() - 1; i++ ) {
+            assertEquals( 256, sink.chunks.get( i ).length() );
+        }
+        assertEquals( ItemListMapper.INSTANCE.write( items ), sink.join() );
+    }
+
+    public void testWriteToSinkWithDefaultChunkSize() {
+        List<Item> items = newItems();
+        ListSink sink = new ListSink();
+        ItemListMapper.INSTANCE.write( items, sink );
+
+        assertEquals( 1, sink.chunks.size() );
+        assertEquals( ItemListMapper.INSTANCE.write( items ), sink.chunks.get( 0 ) );
+    }
+}
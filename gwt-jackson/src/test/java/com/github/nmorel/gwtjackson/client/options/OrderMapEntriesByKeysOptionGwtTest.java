@@ -34,6 +34,11 @@ public class OrderMapEntriesByKeysOptionGwtTest extends GwtJacksonTestCase {
         static LinkedHashMapStringIntegerWriter INSTANCE = GWT.create( LinkedHashMapStringIntegerWriter.class );
     }
 
+    public interface LinkedHashMapIntegerStringWriter extends ObjectWriter<LinkedHashMap<Integer, String>> {
+
+        static LinkedHashMapIntegerStringWriter INSTANCE = GWT.create( LinkedHashMapIntegerStringWriter.class );
+    }
+
     public void testWriteUnordered() {
         OrderMapEntriesByKeysOptionTester.INSTANCE.testWriteUnordered( createWriter( LinkedHashMapStringIntegerWriter.INSTANCE ) );
     }
@@ -43,4 +48,16 @@ public class OrderMapEntriesByKeysOptionGwtTest extends GwtJacksonTestCase {
                 .testWriteOrdered( createWriter( LinkedHashMapStringIntegerWriter.INSTANCE, JsonSerializationContext.builder()
                         .orderMapEntriesByKeys( true ).build() ) );
     }
+
+    public void testWriteOrderedStringKeys() {
+        OrderMapEntriesByKeysOptionTester.INSTANCE
+                .testWriteOrderedStringKeys( createWriter( LinkedHashMapStringIntegerWriter.INSTANCE, JsonSerializationContext.builder()
+                        .orderMapEntriesByKeys( true ).build() ) );
+    }
+
+    public void testWriteOrderedIntegerKeys() {
+        OrderMapEntriesByKeysOptionTester.INSTANCE
+                .testWriteOrderedIntegerKeys( createWriter( LinkedHashMapIntegerStringWriter.INSTANCE, JsonSerializationContext.builder()
+                        .orderMapEntriesByKeys( true ).build() ) );
+    }
 }
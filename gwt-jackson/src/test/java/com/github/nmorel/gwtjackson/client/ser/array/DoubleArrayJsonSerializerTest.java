@@ -0,0 +1,53 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.ser.array;
+
+import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
+import com.github.nmorel.gwtjackson.client.JsonSerializer;
+import com.github.nmorel.gwtjackson.client.ser.AbstractJsonSerializerTest;
+import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+
+/**
+ * @author Nicolas Morel
+ */
+public class DoubleArrayJsonSerializerTest extends AbstractJsonSerializerTest<double[]> {
+
+    @Override
+    protected JsonSerializer<double[]> createSerializer() {
+        return PrimitiveDoubleArrayJsonSerializer.getInstance();
+    }
+
+    public void testSerializeValue() {
+        assertSerialization( "[1.5,-0.25,123.456]", new double[]{1.5, -0.25, 123.456} );
+        assertSerialization( "[]", new double[0] );
+    }
+
+    public void testSerializeIndented() {
+        JsonSerializationContext ctx = JsonSerializationContext.builder().indent( true ).build();
+        JsonWriter writer = ctx.newJsonWriter();
+        createSerializer().serialize( writer, new double[]{1.5, -0.25}, ctx );
+        assertEquals( "[\n  1.5,\n  -0.25\n]", writer.getOutput() );
+    }
+
+    public void testSerializeNonFiniteValue() {
+        try {
+            serialize( new double[]{1.5, Double.NaN} );
+            fail( "Expected an exception because NaN is not a valid JSON value" );
+        } catch ( IllegalArgumentException e ) {
+        }
+    }
+}
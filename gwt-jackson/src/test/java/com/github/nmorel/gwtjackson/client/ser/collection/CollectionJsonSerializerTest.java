@@ -20,10 +20,14 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 
+import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
 import com.github.nmorel.gwtjackson.client.JsonSerializer;
 import com.github.nmorel.gwtjackson.client.ser.AbstractJsonSerializerTest;
+import com.github.nmorel.gwtjackson.client.ser.CollectionJsonSerializer;
 import com.github.nmorel.gwtjackson.client.ser.IterableJsonSerializer;
 import com.github.nmorel.gwtjackson.client.ser.StringJsonSerializer;
+import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+import com.github.nmorel.gwtjackson.client.utils.JsArrayList;
 
 /**
  * @author Nicolas Morel
@@ -40,4 +44,13 @@ public class CollectionJsonSerializerTest extends AbstractJsonSerializerTest<Col
         assertSerialization( "[]", Collections.<String>emptyList() );
     }
 
+    public void testSerializeJsArrayList() {
+        JsonSerializer<Collection<String>> serializer = (JsonSerializer) CollectionJsonSerializer.newInstance( StringJsonSerializer
+                .getInstance() );
+        JsonSerializationContext ctx = JsonSerializationContext.builder().build();
+        JsonWriter writer = ctx.newJsonWriter();
+        serializer.serialize( writer, new JsArrayList<String>( Arrays.asList( "Hello", null, "World" ) ), ctx );
+        assertEquals( "[\"Hello\",null,\"World\"]", writer.getOutput() );
+    }
+
 }
@@ -24,6 +24,7 @@ import com.github.nmorel.gwtjackson.client.JsonSerializer;
 import com.github.nmorel.gwtjackson.client.ser.AbstractJsonSerializerTest;
 import com.github.nmorel.gwtjackson.client.ser.IterableJsonSerializer;
 import com.github.nmorel.gwtjackson.client.ser.StringJsonSerializer;
+import com.github.nmorel.gwtjackson.client.utils.JsArrayList;
 
 /**
  * @author Nicolas Morel
@@ -40,4 +41,9 @@ public class ListJsonSerializerTest extends AbstractJsonSerializerTest<List<Stri
         assertSerialization( "[]", Collections.<String>emptyList() );
     }
 
+    public void testSerializeJsArrayList() {
+        assertSerialization( "[\"Hello\",null,\"World\"]", new JsArrayList<String>( Arrays.asList( "Hello", null, "World" ) ) );
+        assertSerialization( "[]", new JsArrayList<String>() );
+    }
+
 }
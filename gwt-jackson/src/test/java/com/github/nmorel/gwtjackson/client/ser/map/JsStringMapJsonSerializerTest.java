@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nmorel.gwtjackson.client.ser.map;
+
+import java.util.Map;
+
+import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
+import com.github.nmorel.gwtjackson.client.JsonSerializer;
+import com.github.nmorel.gwtjackson.client.ser.AbstractJsonSerializerTest;
+import com.github.nmorel.gwtjackson.client.ser.BaseNumberJsonSerializer.IntegerJsonSerializer;
+import com.github.nmorel.gwtjackson.client.ser.map.key.ToStringKeySerializer;
+import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+import com.github.nmorel.gwtjackson.client.utils.JsStringMap;
+
+/**
+ * @author Nicolas Morel
+ */
+public class JsStringMapJsonSerializerTest extends AbstractJsonSerializerTest<Map<String, Integer>> {
+
+    @Override
+    protected JsonSerializer<Map<String, Integer>> createSerializer() {
+        return (JsonSerializer) MapJsonSerializer.newInstance( ToStringKeySerializer.getInstance(), IntegerJsonSerializer.getInstance() );
+    }
+
+    private JsStringMap<Integer> newMap() {
+        JsStringMap<Integer> map = new JsStringMap<Integer>();
+        map.put( "b", 1 );
+        map.put( "a\"", null );
+        map.put( "__proto__", 3 );
+        return map;
+    }
+
+    private String serialize( JsonSerializationContext ctx, Map<String, Integer> value ) {
+        JsonWriter writer = ctx.newJsonWriter();
+        createSerializer().serialize( writer, value, ctx );
+        return writer.getOutput();
+    }
+
+    public void testSerializeValue() {
+        assertSerialization( "{\"b\":1,\"a\\\"\":null,\"__proto__\":3}", newMap() );
+        assertSerialization( "{}", new JsStringMap<Integer>() );
+    }
+
+    public void testSerializeOrderedByKeys() {
+        JsonSerializationContext ctx = JsonSerializationContext.builder().orderMapEntriesByKeys( true ).build();
+        assertEquals( "{\"__proto__\":3,\"a\\\"\":null,\"b\":1}", serialize( ctx, newMap() ) );
+    }
+
+    public void testSerializeWithoutNullValues() {
+        JsonSerializationContext ctx = JsonSerializationContext.builder().writeNullMapValues( false ).build();
+        assertEquals( "{\"b\":1,\"__proto__\":3}", serialize( ctx, newMap() ) );
+    }
+
+}
@@ -587,6 +587,55 @@ public abstract class AbstractJsonReaderTest extends GwtJacksonTestCase {
         assertEquals( 1234, reader.nextInt() );
     }
 
+    public void testQuotedValuesWithAndWithoutEscapes() {
+        StringBuilder longValue = new StringBuilder();
+        for ( int i = 0; i < 3000; i++ ) {
+            longValue.append( (char) ('a' + i % 26) );
+        }
+        JsonReader reader = newJsonReader( "{\"plain\":\"value\",\"na\\\"me\":\"\\tstart\",\"end\":\"end\\n\"," +
+                "\"both\":\"a\\\\b\\\"c\",\"empty\":\"\",\"long\":\"" + longValue + "\",\"longEscaped\":\"" + longValue + "\\\"" +
+                longValue + "\"}" );
+        reader.beginObject();
+        assertEquals( "plain", reader.nextName() );
+        assertEquals( "value", reader.nextString() );
+        assertEquals( "na\"me", reader.nextName() );
+        assertEquals( "\tstart", reader.nextString() );
+        assertEquals( "end", reader.nextName() );
+        assertEquals( "end\n", reader.nextString() );
+        assertEquals( "both", reader.nextName() );
+        assertEquals( "a\\b\"c", reader.nextString() );
+        assertEquals( "empty", reader.nextName() );
+        assertEquals( "", reader.nextString() );
+        assertEquals( "long", reader.nextName() );
+        assertEquals( longValue.toString(), reader.nextString() );
+        assertEquals( "longEscaped", reader.nextName() );
+        assertEquals( longValue + "\"" + longValue, reader.nextString() );
+        reader.endObject();
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+    }
+
+    public void testNextNameWithExpectedName() {
+        JsonReader reader = newJsonReader( "{\"a\":1,\"abc\":2,\"b\":3,\"na\\\"me\":4,\"\\u0063\":5,\"last\":6}" );
+        reader.beginObject();
+        String expected = "a";
+        assertSame( expected, reader.nextName( expected ) );
+        assertEquals( 1, reader.nextInt() );
+        assertEquals( "abc", reader.nextName( "ab" ) );
+        assertEquals( 2, reader.nextInt() );
+        assertEquals( "b", reader.nextName( "a" ) );
+        assertEquals( 3, reader.nextInt() );
+        expected = "na\"me";
+        assertSame( expected, reader.nextName( expected ) );
+        assertEquals( 4, reader.nextInt() );
+        expected = "c";
+        assertSame( expected, reader.nextName( expected ) );
+        assertEquals( 5, reader.nextInt() );
+        assertEquals( "last", reader.nextName( "last\":6}" ) );
+        assertEquals( 6, reader.nextInt() );
+        reader.endObject();
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+    }
+
     public void testMixedCaseLiterals() {
         JsonReader reader = newJsonReader( "[True,TruE,False,FALSE,NULL,nulL]" );
         reader.beginArray();
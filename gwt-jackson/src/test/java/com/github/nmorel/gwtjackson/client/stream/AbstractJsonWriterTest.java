@@ -395,6 +395,50 @@ public abstract class AbstractJsonWriterTest extends GwtJacksonTestCase {
         assertEquals( expected, jsonWriter.getOutput() );
     }
 
+    public void testNameTokens() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.setSerializeNulls( false );
+
+        jsonWriter.beginObject();
+        jsonWriter.nameToken( ",\"a\":" ).value( 1 );
+        jsonWriter.nameToken( ",\"b\":" ).nullValue();
+        jsonWriter.nameToken( ",\"c\":" ).cancelName();
+        jsonWriter.nameToken( ",\"d\":" ).beginObject();
+        jsonWriter.nameToken( ",\"e\":" ).value( "f" );
+        jsonWriter.endObject();
+        jsonWriter.name( "g" ).beginArray().endArray();
+        jsonWriter.nameToken( ",\"h\":" ).value( true );
+        jsonWriter.endObject();
+
+        assertEquals( "{\"a\":1,\"d\":{\"e\":\"f\"},\"g\":[],\"h\":true}", jsonWriter.getOutput() );
+    }
+
+    public void testPrettyPrintNameTokens() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.setIndent( "   " );
+
+        jsonWriter.beginObject();
+        jsonWriter.nameToken( ",\"a\":" ).value( 1 );
+        jsonWriter.nameToken( ",\"b\":" ).beginObject();
+        jsonWriter.nameToken( ",\"c\":" ).value( 2 );
+        jsonWriter.endObject();
+        jsonWriter.endObject();
+
+        String expected = "{\n" + "   \"a\": 1,\n" + "   \"b\": {\n" + "      \"c\": 2\n" + "   }\n" + "}";
+        assertEquals( expected, jsonWriter.getOutput() );
+    }
+
+    public void testTwoNameTokens() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginObject();
+        jsonWriter.nameToken( ",\"a\":" );
+        try {
+            jsonWriter.name( "b" );
+            fail();
+        } catch ( IllegalStateException expected ) {
+        }
+    }
+
     public void testLenientWriterPermitsMultipleTopLevelValues() {
         JsonWriter jsonWriter = newJsonWriter();
         jsonWriter.setLenient( true );
@@ -18,6 +18,7 @@ package com.github.nmorel.gwtjackson.client.stream.impl;
 
 import com.github.nmorel.gwtjackson.client.stream.AbstractJsonWriterTest;
 import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+import com.google.gwt.core.client.JsonUtils;
 
 /**
  * @author Nicolas Morel
@@ -28,4 +29,52 @@ public class FastJsonWriterTest extends AbstractJsonWriterTest {
     public JsonWriter newJsonWriter() {
         return new FastJsonWriter( new StringBuilder() );
     }
+
+    public void testReset() {
+        FastJsonWriter writer = new FastJsonWriter( new StringBuilder() );
+        writer.beginObject();
+        writer.name( "a" );
+        writer.beginArray();
+        writer.value( 1 );
+
+        writer.reset();
+        writer.beginArray();
+        writer.value( "b" );
+        writer.endArray();
+        writer.close();
+        assertEquals( "[\"b\"]", writer.getOutput() );
+    }
+
+    public void testStringsEscapedLikeJsonUtils() {
+        String[] values = new String[]{"", "id", "a b~", "a\"b", "a\\b", "tab\t", "\u007f", "caf\u00e9", "\u2028", "\u0000"};
+        // the short strings needing escaping are written twice to go through the cache
+        for ( int pass = 0; pass < 2; pass++ ) {
+            for ( String value : values ) {
+                FastJsonWriter writer = new FastJsonWriter( new StringBuilder() );
+                writer.beginObject();
+                writer.name( value ).value( value );
+                writer.endObject();
+                writer.close();
+                String escaped = JsonUtils.escapeValue( value );
+                assertEquals( "{" + escaped + ":" + escaped + "}", writer.getOutput() );
+            }
+        }
+    }
+
+    public void testEscapeCacheIsBounded() {
+        FastJsonWriter writer = new FastJsonWriter( new StringBuilder() );
+        StringBuilder expected = new StringBuilder( "[" );
+        writer.beginArray();
+        for ( int i = 0; i < 1000; i++ ) {
+            String value = "\"" + ( i % 300 );
+            writer.value( value );
+            if ( i > 0 ) {
+                expected.append( ',' );
+            }
+            expected.append( JsonUtils.escapeValue( value ) );
+        }
+        writer.endArray();
+        writer.close();
+        assertEquals( expected.append( ']' ).toString(), writer.getOutput() );
+    }
 }
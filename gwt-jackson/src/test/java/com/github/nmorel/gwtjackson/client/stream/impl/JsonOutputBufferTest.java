@@ -0,0 +1,149 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.stream.JsonSink;
+import com.github.nmorel.gwtjackson.client.stream.impl.JsonOutputBuffer.Type;
+
+/**
+ * @author Nicolas Morel
+ */
+public class JsonOutputBufferTest extends GwtJacksonTestCase {
+
+    public void testAppend() {
+        for ( Type type : Type.values() ) {
+            JsonOutputBuffer buffer = JsonOutputBuffer.create( type );
+            buffer.append( "ab" ).append( 'c' ).append( ",\"d\":", 1, 4 );
+            assertEquals( type.name(), "abc\"d\"", buffer.toString() );
+
+            buffer.clear();
+            assertEquals( type.name(), "", buffer.toString() );
+            buffer.append( 'e' );
+            assertEquals( type.name(), "e", buffer.toString() );
+        }
+    }
+
+    public void testLargeOutput() {
+        StringBuilder expected = new StringBuilder();
+        for ( int i = 0; expected.length() < 3 * JsonOutputBuffer.CHUNK_SIZE; i++ ) {
+            expected.append( i ).append( ',' );
+        }
+        String piece = expected.toString();
+
+        for ( Type type : Type.values() ) {
+            JsonOutputBuffer buffer = JsonOutputBuffer.create( type );
+            for ( int i = 0; i < piece.length(); i += 100 ) {
+                buffer.append( piece, i, Math.min( i + 100, piece.length() ) );
+            }
+            assertEquals( type.name(), piece, buffer.toString() );
+
+            // the output can be requested while writing
+            buffer.append( 'x' );
+            assertEquals( type.name(), piece + 'x', buffer.toString() );
+        }
+    }
+
+    public void testWriter() {
+        for ( Type type : Type.values() ) {
+            FastJsonWriter writer = new FastJsonWriter( JsonOutputBuffer.create( type ) );
+            writer.beginObject();
+            writer.nameToken( ",\"a\":" ).value( 1 );
+            writer.name( "b" ).beginArray().value( "c" ).nullValue().endArray();
+            writer.endObject();
+            assertEquals( type.name(), "{\"a\":1,\"b\":[\"c\",null]}", writer.getOutput() );
+
+            writer.reset();
+            writer.beginArray().endArray();
+            assertEquals( type.name(), "[]", writer.getOutput() );
+        }
+    }
+
+    private static class ListSink implements JsonSink {
+
+        private final List<String> chunks = new ArrayList<String>();
+
+        @Override
+        public void write( String chunk ) {
+            chunks.add( chunk );
+        }
+    }
+
+    public void testSink() {
+        ListSink sink = new ListSink();
+        JsonOutputBuffer buffer = JsonOutputBuffer.sink( sink, 4 );
+        buffer.append( "ab" ).append( 'c' );
+        assertTrue( sink.chunks.isEmpty() );
+        assertEquals( "abc", buffer.toString() );
+
+        buffer.append( "defghijkl", 0, 8 );
+        assertEquals( 2, sink.chunks.size() );
+        assertEquals( "abcd", sink.chunks.get( 0 ) );
+        assertEquals( "efgh", sink.chunks.get( 1 ) );
+        assertEquals( "ijk", buffer.toString() );
+
+        buffer.flush();
+        assertEquals( 3, sink.chunks.size() );
+        assertEquals( "ijk", sink.chunks.get( 2 ) );
+        assertEquals( "", buffer.toString() );
+
+        // nothing left to flush
+        buffer.flush();
+        assertEquals( 3, sink.chunks.size() );
+    }
+
+    public void testSinkKeepsSurrogatePairs() {
+        ListSink sink = new ListSink();
+        JsonOutputBuffer buffer = JsonOutputBuffer.sink( sink, 4 );
+
+        // U+1F600 is written with the surrogate pair \uD83D\uDE00, its first half is the 4th character
+        buffer.append( "abc\uD83D\uDE00defgh" );
+        buffer.flush();
+
+        assertEquals( 3, sink.chunks.size() );
+        assertEquals( "abc", sink.chunks.get( 0 ) );
+        assertEquals( "\uD83D\uDE00de", sink.chunks.get( 1 ) );
+        assertEquals( "fgh", sink.chunks.get( 2 ) );
+        for ( String chunk : sink.chunks ) {
+            assertFalse( Character.isHighSurrogate( chunk.charAt( chunk.length() - 1 ) ) );
+            assertFalse( Character.isLowSurrogate( chunk.charAt( 0 ) ) );
+        }
+    }
+
+    public void testSinkWriter() {
+        ListSink sink = new ListSink();
+        FastJsonWriter writer = new FastJsonWriter( JsonOutputBuffer.sink( sink, 5 ) );
+        writer.beginObject();
+        writer.name( "a" ).value( "bcdefgh" );
+        writer.name( "i" ).beginArray().value( 1 ).value( 2 ).endArray();
+        writer.endObject();
+        writer.close();
+
+        StringBuilder output = new StringBuilder();
+        for ( int i = 0; i < sink.chunks.size(); i++ ) {
+            String chunk = sink.chunks.get( i );
+            if ( i < sink.chunks.size() - 1 ) {
+                assertEquals( 5, chunk.length() );
+            }
+            output.append( chunk );
+        }
+        assertEquals( "{\"a\":\"bcdefgh\",\"i\":[1,2]}", output.toString() );
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArrayInteger;
+
+/**
+ * @author Nicolas Morel
+ */
+public class NativeJsonReaderTest extends GwtJacksonTestCase {
+
+    public void testRead() {
+        JsonReader reader = NativeJsonReader.parse( "{\"object\":{\"a\":[1,2.5,\"te\\\"xt\",true,null]},\"number\":-12,\"string\":\"15\"," +
+                "\"empty\":{}}" );
+        assertNotNull( reader );
+
+        reader.beginObject();
+        assertEquals( JsonToken.NAME, reader.peek() );
+        assertEquals( "object", reader.nextName() );
+        reader.beginObject();
+        assertEquals( "a", reader.nextName() );
+        reader.beginArray();
+        assertEquals( 1l, reader.nextLong() );
+        assertEquals( 2.5d, reader.nextDouble() );
+        assertEquals( "te\"xt", reader.nextString() );
+        assertTrue( reader.nextBoolean() );
+        assertTrue( reader.hasNext() );
+        assertEquals( JsonToken.NULL, reader.peek() );
+        reader.nextNull();
+        assertFalse( reader.hasNext() );
+        reader.endArray();
+        assertFalse( reader.hasNext() );
+        reader.endObject();
+        assertEquals( "number", reader.nextName() );
+        assertEquals( JsonToken.NUMBER, reader.peek() );
+        assertEquals( -12, reader.nextNumber() );
+        assertEquals( "string", reader.nextName() );
+        assertEquals( 15, reader.nextInt() );
+        assertEquals( "empty", reader.nextName() );
+        reader.beginObject();
+        assertFalse( reader.hasNext() );
+        reader.endObject();
+        reader.endObject();
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+    }
+
+    public void testSkipAndNextValue() {
+        JsonReader reader = NativeJsonReader.parse( "[{\"a\":[1,{\"b\":null}]},{\"c\":\"d\"},\"e\",{\"f\":[]}]" );
+        reader.beginArray();
+        reader.skipValue();
+        assertEquals( "{\"c\":\"d\"}", reader.nextValue() );
+        assertEquals( "\"e\"", reader.nextValue() );
+
+        JavaScriptObject object = reader.nextJavaScriptObject( true );
+        JsArrayInteger array = getProperty( object, "f" );
+        assertEquals( 0, array.length() );
+
+        reader.endArray();
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+    }
+
+    public void testNumbers() {
+        JsonReader reader = NativeJsonReader.parse( "[2147483648,1.5,10,\"12.5\"]" );
+        reader.beginArray();
+        assertEquals( 2147483648l, reader.nextNumber() );
+        try {
+            reader.nextInt();
+            fail();
+        } catch ( NumberFormatException e ) {
+            // expected exception
+        }
+        assertEquals( 1.5d, reader.nextNumber() );
+        assertEquals( "10", reader.nextString() );
+        assertEquals( 12.5d, reader.nextNumber() );
+        reader.endArray();
+    }
+
+    public void testUnexpectedToken() {
+        JsonReader reader = NativeJsonReader.parse( "[\"text\"]" );
+        reader.beginArray();
+        try {
+            reader.nextBoolean();
+            fail();
+        } catch ( IllegalStateException e ) {
+            // expected exception
+        }
+        assertEquals( "text", reader.nextString() );
+        try {
+            reader.endObject();
+            fail();
+        } catch ( IllegalStateException e ) {
+            // expected exception
+        }
+        reader.endArray();
+    }
+
+    public void testLongNumbers() {
+        // only the integers a double can't hold are rejected, not the digits inside strings or fractions
+        JsonReader reader = NativeJsonReader.parse( "[\"12345678901234567890\",0.1234567890123456,123456789012345]" );
+        assertNotNull( reader );
+        reader.beginArray();
+        assertEquals( "12345678901234567890", reader.nextString() );
+        assertEquals( 0.1234567890123456d, reader.nextNumber() );
+        assertEquals( 123456789012345l, reader.nextNumber() );
+        reader.endArray();
+
+        assertNull( NativeJsonReader.parse( "[1,-1234567890123456]" ) );
+        assertNull( NativeJsonReader.parse( "{\"a\":\"b\\\"\",\"c\":12345678901234567}" ) );
+
+        JsonDeserializationContext ctx = JsonDeserializationContext.builder().useNativeParser( true ).build();
+        reader = ctx.newJsonReader( "[12345678901234567]" );
+        reader.beginArray();
+        assertEquals( 12345678901234567l, reader.nextNumber() );
+        reader.endArray();
+    }
+
+    public void testNumberTypes() {
+        JsonDeserializationContext ctx = JsonDeserializationContext.builder().useNativeParser( true ).build();
+        JsonReader reader = ctx.newJsonReader( "[2,2.0,2e3,-0,-0.5,\"2.0\"]" );
+        reader.beginArray();
+        assertEquals( 2, reader.nextNumber() );
+        assertEquals( 2d, reader.nextNumber() );
+        assertEquals( 2000d, reader.nextNumber() );
+        assertEquals( 0, reader.nextNumber() );
+        assertEquals( -0.5d, reader.nextNumber() );
+        assertEquals( "2.0", reader.nextString() );
+        reader.endArray();
+
+        reader = NativeJsonReader.parse( "[2,\"2.0\",\"x1e3\"]" );
+        assertNotNull( reader );
+        reader.beginArray();
+        assertEquals( 2, reader.nextNumber() );
+        assertEquals( 2d, reader.nextNumber() );
+        assertEquals( "x1e3", reader.nextString() );
+        reader.endArray();
+    }
+
+    public void testLenientInputFallback() {
+        assertNull( NativeJsonReader.parse( "{a:'b'}" ) );
+
+        JsonDeserializationContext ctx = JsonDeserializationContext.builder().useNativeParser( true ).build();
+        assertTrue( ctx.newJsonReader( "{\"a\":\"b\"}" ) instanceof NativeJsonReader );
+
+        JsonReader reader = ctx.newJsonReader( "{a:'b'}" );
+        assertTrue( reader instanceof NonBufferedJsonReader );
+        reader.beginObject();
+        assertEquals( "a", reader.nextName() );
+        assertEquals( "b", reader.nextString() );
+        reader.endObject();
+    }
+
+    private static native <T extends JavaScriptObject> T getProperty( JavaScriptObject object, String name ) /*-{
+        return object[name];
+    }-*/;
+}
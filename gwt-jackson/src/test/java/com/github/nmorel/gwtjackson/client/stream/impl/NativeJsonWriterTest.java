@@ -0,0 +1,123 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+import java.math.BigDecimal;
+
+import com.github.nmorel.gwtjackson.client.stream.AbstractJsonWriterTest;
+import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsonUtils;
+
+/**
+ * @author Nicolas Morel
+ */
+public class NativeJsonWriterTest extends AbstractJsonWriterTest {
+
+    @Override
+    public JsonWriter newJsonWriter() {
+        return new NativeJsonWriter();
+    }
+
+    @Override
+    public void testDoubles() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginArray();
+        jsonWriter.value( -0.0 );
+        jsonWriter.value( 1.0 );
+        jsonWriter.value( Double.MAX_VALUE );
+        jsonWriter.value( Double.MIN_VALUE );
+        jsonWriter.value( 0.0 );
+        jsonWriter.value( -0.5 );
+        jsonWriter.value( 2.2250738585072014E-308 );
+        jsonWriter.value( Math.PI );
+        jsonWriter.value( Math.E );
+        jsonWriter.endArray();
+        jsonWriter.close();
+        // the numbers are always formatted by JSON.stringify
+        assertEquals( "[0," + "1," + "1.7976931348623157e+308," + "5e-324," + "0," + "-0.5," + "2.2250738585072014e-308," +
+                "" + "3.141592653589793," + "2.718281828459045]", jsonWriter.getOutput() );
+    }
+
+    @Override
+    public void testRepeatedName() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginObject();
+        jsonWriter.name( "a" ).value( true );
+        jsonWriter.name( "a" ).value( false );
+        jsonWriter.endObject();
+        // the names are the keys of a JavaScript object
+        assertEquals( "{\"a\":false}", jsonWriter.getOutput() );
+    }
+
+    @Override
+    public void testNoEscaping() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginObject();
+        jsonWriter.unescapeName( "\"json\"" );
+        jsonWriter.unescapeValue( "{\"key\":\"value\"}" );
+        jsonWriter.endObject();
+        jsonWriter.close();
+
+        // JSON.stringify always escapes
+        assertEquals( "{\"\\\"json\\\"\":\"{\\\"key\\\":\\\"value\\\"}\"}", jsonWriter.getOutput() );
+    }
+
+    public void testRawValues() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginArray();
+        jsonWriter.value( Long.MAX_VALUE );
+        jsonWriter.value( 12L );
+        jsonWriter.value( new BigDecimal( "1.50" ) );
+        jsonWriter.rawValue( "{\"a\":[1]}" );
+        jsonWriter.value( "\u0000raw0" );
+        jsonWriter.endArray();
+        jsonWriter.close();
+
+        assertEquals( "[9223372036854775807,12,1.50,{\"a\":[1]},\"\\u0000raw0\"]", jsonWriter.getOutput() );
+    }
+
+    public void testOutputObject() {
+        NativeJsonWriter jsonWriter = new NativeJsonWriter();
+        jsonWriter.beginObject();
+        jsonWriter.name( "a" ).value( 1 );
+        jsonWriter.name( "b" ).beginArray().value( "c" ).nullValue().endArray();
+        jsonWriter.endObject();
+        jsonWriter.close();
+
+        JavaScriptObject object = jsonWriter.getOutputObject();
+        assertEquals( "{\"a\":1,\"b\":[\"c\",null]}", JsonUtils.stringify( object ) );
+
+        jsonWriter = new NativeJsonWriter();
+        jsonWriter.beginArray();
+        jsonWriter.value( new BigDecimal( "1.5" ) );
+        jsonWriter.endArray();
+        jsonWriter.close();
+
+        object = jsonWriter.getOutputObject();
+        assertEquals( "[1.5]", JsonUtils.stringify( object ) );
+
+        jsonWriter = new NativeJsonWriter();
+        jsonWriter.setLenient( true );
+        jsonWriter.value( "a" );
+        try {
+            jsonWriter.getOutputObject();
+            fail();
+        } catch ( IllegalStateException expected ) {
+        }
+    }
+}
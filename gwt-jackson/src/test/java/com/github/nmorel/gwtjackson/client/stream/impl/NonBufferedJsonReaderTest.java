@@ -18,6 +18,7 @@ package com.github.nmorel.gwtjackson.client.stream.impl;
 
 import com.github.nmorel.gwtjackson.client.stream.AbstractJsonReaderTest;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
 
 /**
  * @author Nicolas Morel
@@ -28,4 +29,48 @@ public class NonBufferedJsonReaderTest extends AbstractJsonReaderTest {
     public JsonReader newJsonReader( String input ) {
         return new NonBufferedJsonReader( input );
     }
+
+    public void testNextValueStrictIsCapturedAsIs() {
+        JsonReader reader = newJsonReader( "{\"object\": { \"a\" : [1, 2.5e3, \"\\u00e9\\\"\"] , \"b\":true },"
+                + "\"array\":[ {}, [] ],\"string\":\"a\\nb\",\"number\":-1.5,\"long\":12}" );
+        reader.beginObject();
+        assertEquals( "object", reader.nextName() );
+        assertEquals( "{ \"a\" : [1, 2.5e3, \"\\u00e9\\\"\"] , \"b\":true }", reader.nextValue() );
+        assertEquals( "array", reader.nextName() );
+        assertEquals( "[ {}, [] ]", reader.nextValue() );
+        assertEquals( "string", reader.nextName() );
+        assertEquals( "\"a\\nb\"", reader.nextValue() );
+        assertEquals( "number", reader.nextName() );
+        assertEquals( "-1.5", reader.nextValue() );
+        assertEquals( "long", reader.nextName() );
+        assertEquals( "12", reader.nextValue() );
+        reader.endObject();
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+    }
+
+    public void testNextValueLenientIsRewritten() {
+        JsonReader reader = newJsonReader( "{object: { 'a' : [1, true, unquoted] /* comment */ }}" );
+        reader.setLenient( true );
+        reader.beginObject();
+        assertEquals( "object", reader.nextName() );
+        assertEquals( "{\"a\":[1,true,\"unquoted\"]}", reader.nextValue() );
+        reader.endObject();
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+    }
+
+    public void testReset() {
+        NonBufferedJsonReader reader = new NonBufferedJsonReader( "{\"a\":[1" );
+        reader.beginObject();
+        assertEquals( "a", reader.nextName() );
+        reader.beginArray();
+        assertEquals( 1, reader.nextInt() );
+
+        reader.reset( "[\"b\",2]" );
+        reader.beginArray();
+        assertEquals( "b", reader.nextString() );
+        assertEquals( 2, reader.nextInt() );
+        reader.endArray();
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+        assertEquals( "[\"b\",2]", reader.getInput() );
+    }
 }
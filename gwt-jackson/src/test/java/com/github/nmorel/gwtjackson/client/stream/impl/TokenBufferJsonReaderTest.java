@@ -0,0 +1,99 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+
+/**
+ * @author Nicolas Morel
+ */
+public class TokenBufferJsonReaderTest extends GwtJacksonTestCase {
+
+    public void testReplay() {
+        JsonReader source = new NonBufferedJsonReader( "{\"object\":{\"a\":[1,2.5,\"te\\\"xt\",true,null]},\"number\":-12,\"string\":\"15\"}" );
+        TokenBufferJsonReader buffer = new TokenBufferJsonReader( source );
+
+        source.beginObject();
+        assertEquals( "object", source.nextName() );
+        int objectStart = buffer.record( source );
+        int objectEnd = buffer.size();
+        assertEquals( "number", source.nextName() );
+        int numberStart = buffer.record( source );
+        int numberEnd = buffer.size();
+        assertEquals( "string", source.nextName() );
+        int stringStart = buffer.record( source );
+        int stringEnd = buffer.size();
+        source.endObject();
+        assertEquals( JsonToken.END_DOCUMENT, source.peek() );
+
+        // the values can be replayed in any order
+        buffer.replay( stringStart, stringEnd );
+        assertEquals( 15, buffer.nextInt() );
+        assertEquals( JsonToken.END_DOCUMENT, buffer.peek() );
+
+        buffer.replay( numberStart, numberEnd );
+        assertEquals( JsonToken.NUMBER, buffer.peek() );
+        assertEquals( -12, buffer.nextNumber() );
+
+        buffer.replay( objectStart, objectEnd );
+        buffer.beginObject();
+        assertEquals( JsonToken.NAME, buffer.peek() );
+        assertEquals( "a", buffer.nextName() );
+        buffer.beginArray();
+        assertEquals( 1l, buffer.nextLong() );
+        assertEquals( 2.5d, buffer.nextDouble() );
+        assertEquals( "te\"xt", buffer.nextString() );
+        assertTrue( buffer.nextBoolean() );
+        assertTrue( buffer.hasNext() );
+        buffer.nextNull();
+        assertFalse( buffer.hasNext() );
+        buffer.endArray();
+        buffer.endObject();
+        assertEquals( JsonToken.END_DOCUMENT, buffer.peek() );
+
+        buffer.replay( objectStart, objectEnd );
+        buffer.skipValue();
+        assertEquals( JsonToken.END_DOCUMENT, buffer.peek() );
+
+        buffer.replay( objectStart, objectEnd );
+        assertEquals( "{\"a\":[1,2.5,\"te\\\"xt\",true,null]}", buffer.nextValue() );
+    }
+
+    public void testUnexpectedToken() {
+        JsonReader source = new NonBufferedJsonReader( "[\"text\"]" );
+        TokenBufferJsonReader buffer = new TokenBufferJsonReader( source );
+        buffer.replay( buffer.record( source ), buffer.size() );
+
+        buffer.beginArray();
+        try {
+            buffer.nextBoolean();
+            fail();
+        } catch ( IllegalStateException e ) {
+            // expected exception
+        }
+        assertEquals( "text", buffer.nextString() );
+        try {
+            buffer.nextName();
+            fail();
+        } catch ( IllegalStateException e ) {
+            // expected exception
+        }
+        buffer.endArray();
+    }
+}
@@ -40,6 +40,11 @@ public class TypeNamesJacksonTest extends AbstractJacksonTest {
         TypeNamesTester.INSTANCE.testRoundTrip( createMapper( Animal[].class ) );
     }
 
+    @Test
+    public void testRoundTripRepeatedTypes() {
+        TypeNamesTester.INSTANCE.testRoundTripRepeatedTypes( createMapper( Animal[].class ) );
+    }
+
     @Test
     @Ignore("for some reasons, jackson don't add type info. It works on original jackson test with a class extending LinkedHashMap")
     public void testRoundTripMap() {
@@ -57,4 +57,17 @@ public class JsonIgnoreJacksonTest extends AbstractJacksonTest {
                 .testDeserializeBeanWithIgnorePropertiesAsProperty( createReader( JsonIgnoreTester.BeanWithIgnorePropertiesAsProperty
                         .class ) );
     }
+
+    @Test
+    public void testSerializeBeanWithIgnorePropertiesAsListProperty() {
+        JsonIgnoreTester.INSTANCE.testSerializeBeanWithIgnorePropertiesAsListProperty( createWriter( JsonIgnoreTester
+                .BeanWithIgnorePropertiesAsListProperty.class ) );
+    }
+
+    @Test
+    @Ignore("does not apply the ignored properties to the elements of the collection")
+    public void testDeserializeBeanWithIgnorePropertiesAsListProperty() {
+        JsonIgnoreTester.INSTANCE.testDeserializeBeanWithIgnorePropertiesAsListProperty( createReader( JsonIgnoreTester
+                .BeanWithIgnorePropertiesAsListProperty.class ) );
+    }
 }
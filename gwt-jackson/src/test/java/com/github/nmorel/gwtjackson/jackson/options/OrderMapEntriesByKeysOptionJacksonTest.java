@@ -41,4 +41,18 @@ public class OrderMapEntriesByKeysOptionJacksonTest extends AbstractJacksonTest
         OrderMapEntriesByKeysOptionTester.INSTANCE
                 .testWriteOrdered( createWriter( new TypeReference<LinkedHashMap<String, Integer>>() {} ) );
     }
+
+    @Test
+    public void testWriteOrderedStringKeys() {
+        objectMapper.configure( SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true );
+        OrderMapEntriesByKeysOptionTester.INSTANCE
+                .testWriteOrderedStringKeys( createWriter( new TypeReference<LinkedHashMap<String, Integer>>() {} ) );
+    }
+
+    @Test
+    public void testWriteOrderedIntegerKeys() {
+        objectMapper.configure( SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true );
+        OrderMapEntriesByKeysOptionTester.INSTANCE
+                .testWriteOrderedIntegerKeys( createWriter( new TypeReference<LinkedHashMap<Integer, String>>() {} ) );
+    }
 }
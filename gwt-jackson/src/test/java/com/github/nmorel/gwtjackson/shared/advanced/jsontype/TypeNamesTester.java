@@ -168,6 +168,18 @@ public final class TypeNamesTester extends AbstractTester {
         }
     }
 
+    public void testRoundTripRepeatedTypes( ObjectMapperTester<Animal[]> mapper ) {
+        // consecutive elements with the same type and alternating types
+        Animal[] input = new Animal[]{new Dog( "Odie", 7 ), new Dog( "Spot", 3 ), new MaineCoon( "Piru", false ), new Dog( "Rex", 5 ),
+                new Persian( "Khomeini", true ), new Persian( "Kissa", false ), new MaineCoon( "Venla", true )};
+
+        Animal[] output = mapper.read( mapper.write( input ) );
+        assertEquals( input.length, output.length );
+        for ( int i = 0, len = input.length; i < len; ++i ) {
+            assertEquals( "Entry #" + i + " differs", input[i], output[i] );
+        }
+    }
+
     public void testRoundTripMap( ObjectMapperTester<LinkedHashMap<String, Animal>> mapper ) {
         LinkedHashMap<String, Animal> input = new LinkedHashMap<String, Animal>();
         input.put( "venla", new MaineCoon( "Venla", true ) );
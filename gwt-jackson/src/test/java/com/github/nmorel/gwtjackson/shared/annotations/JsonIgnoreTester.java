@@ -16,6 +16,9 @@
 
 package com.github.nmorel.gwtjackson.shared.annotations;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
@@ -41,6 +44,14 @@ public final class JsonIgnoreTester extends AbstractTester {
         public BeanWithIgnoredProperties property;
     }
 
+    public static class BeanWithIgnorePropertiesAsListProperty {
+
+        @JsonIgnoreProperties(value = {"intProperty"})
+        public List<BeanWithIgnoredProperties> properties;
+
+        public BeanWithIgnoredProperties property;
+    }
+
     @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
     @JsonIgnoreProperties({"stringProperty", "aBooleanProperty", "notAnActualProperty"})
     public static class BeanWithIgnoredProperties {
@@ -126,4 +137,40 @@ public final class JsonIgnoreTester extends AbstractTester {
         assertEquals( 0, result.property.intProperty );
     }
 
+    public void testSerializeBeanWithIgnorePropertiesAsListProperty( ObjectWriterTester<BeanWithIgnorePropertiesAsListProperty> writer ) {
+        BeanWithIgnorePropertiesAsListProperty bean = new BeanWithIgnorePropertiesAsListProperty();
+        bean.properties = new ArrayList<BeanWithIgnoredProperties>();
+        for ( int i = 0; i < 3; i++ ) {
+            BeanWithIgnoredProperties property = new BeanWithIgnoredProperties();
+            property.intProperty = i;
+            property.stringProperty = "string" + i;
+            bean.properties.add( property );
+        }
+        bean.property = new BeanWithIgnoredProperties();
+        bean.property.intProperty = 3;
+        bean.property.stringProperty = "string3";
+
+        String expected = "{\"properties\":[{\"aStringProperty\":\"string0\"},{\"aStringProperty\":\"string1\"}," +
+                "{\"aStringProperty\":\"string2\"}],\"property\":{\"intProperty\":3,\"aStringProperty\":\"string3\"}}";
+        String result = writer.write( bean );
+
+        assertEquals( expected, result );
+    }
+
+    public void testDeserializeBeanWithIgnorePropertiesAsListProperty( ObjectReaderTester<BeanWithIgnorePropertiesAsListProperty>
+                                                                                reader ) {
+        String input = "{\"properties\":[{\"aStringProperty\":\"string0\",\"intProperty\":0}," +
+                "{\"intProperty\":1,\"aStringProperty\":\"string1\"}]," +
+                "\"property\":{\"intProperty\":2,\"aStringProperty\":\"string2\"}}";
+
+        BeanWithIgnorePropertiesAsListProperty result = reader.read( input );
+
+        assertEquals( 2, result.properties.size() );
+        for ( int i = 0; i < 2; i++ ) {
+            assertEquals( 0, result.properties.get( i ).intProperty );
+            assertEquals( "string" + i, result.properties.get( i ).stringProperty );
+        }
+        assertEquals( 2, result.property.intProperty );
+        assertEquals( "string2", result.property.stringProperty );
+    }
 }
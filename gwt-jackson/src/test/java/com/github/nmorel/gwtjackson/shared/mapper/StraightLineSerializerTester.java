@@ -0,0 +1,122 @@
+/*
+ * Copyright 2016 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.shared.mapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.github.nmorel.gwtjackson.shared.AbstractTester;
+import com.github.nmorel.gwtjackson.shared.ObjectWriterTester;
+
+/**
+ * Bean mixing the properties written directly by a straight-line bean serializer and the ones written by their property serializer.
+ *
+ * @author Nicolas Morel
+ */
+public final class StraightLineSerializerTester extends AbstractTester {
+
+    public static class Inner {
+
+        public String a;
+
+        public int b;
+    }
+
+    @JsonPropertyOrder( {"id", "name", "flag", "letter", "inner", "quo\"ted", "optional", "tags", "big"} )
+    public static class MixedPropertiesBean {
+
+        public int id;
+
+        public String name;
+
+        public Boolean flag;
+
+        public Character letter;
+
+        @JsonUnwrapped
+        public Inner inner;
+
+        @JsonProperty( "quo\"ted" )
+        public String quoted;
+
+        @JsonInclude( Include.NON_NULL )
+        public String optional;
+
+        @JsonInclude( Include.NON_EMPTY )
+        public List<String> tags;
+
+        public Long big;
+    }
+
+    public static final StraightLineSerializerTester INSTANCE = new StraightLineSerializerTester();
+
+    private StraightLineSerializerTester() {
+    }
+
+    public void testSerializeValue( ObjectWriterTester<MixedPropertiesBean> writer ) {
+        MixedPropertiesBean bean = new MixedPropertiesBean();
+        bean.id = 1;
+        bean.name = "name";
+        bean.flag = true;
+        bean.letter = 'x';
+        bean.inner = new Inner();
+        bean.inner.a = "inner";
+        bean.inner.b = 2;
+        bean.quoted = "quoted";
+        bean.optional = "optional";
+        bean.tags = Arrays.asList( "tag" );
+        bean.big = 12345678912345l;
+
+        String expected = "{" +
+                "\"id\":1," +
+                "\"name\":\"name\"," +
+                "\"flag\":true," +
+                "\"letter\":\"x\"," +
+                "\"a\":\"inner\"," +
+                "\"b\":2," +
+                "\"quo\\\"ted\":\"quoted\"," +
+                "\"optional\":\"optional\"," +
+                "\"tags\":[\"tag\"]," +
+                "\"big\":12345678912345" +
+                "}";
+        assertEquals( expected, writer.write( bean ) );
+    }
+
+    public void testSerializeEmptyValue( ObjectWriterTester<MixedPropertiesBean> writer ) {
+        MixedPropertiesBean bean = new MixedPropertiesBean();
+        bean.inner = new Inner();
+        bean.tags = new ArrayList<String>();
+
+        String expected = "{" +
+                "\"id\":0," +
+                "\"name\":null," +
+                "\"flag\":null," +
+                "\"letter\":null," +
+                "\"a\":null," +
+                "\"b\":0," +
+                "\"quo\\\"ted\":null," +
+                "\"big\":null" +
+                "}";
+        assertEquals( expected, writer.write( bean ) );
+    }
+}
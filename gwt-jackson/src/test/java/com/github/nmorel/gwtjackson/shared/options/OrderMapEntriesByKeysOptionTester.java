@@ -45,4 +45,23 @@ public final class OrderMapEntriesByKeysOptionTester extends AbstractTester {
         assertEquals( "{\"a\":6,\"b\":3}", writer.write( map ) );
     }
 
+    public void testWriteOrderedStringKeys( ObjectWriterTester<LinkedHashMap<String, Integer>> writer ) {
+        LinkedHashMap<String, Integer> map = new LinkedHashMap<String, Integer>();
+        map.put( "b", 1 );
+        map.put( "9", 2 );
+        map.put( "a\"q", null );
+        map.put( "B", 4 );
+        map.put( "_", 5 );
+        map.put( "10", 6 );
+        assertEquals( "{\"10\":6,\"9\":2,\"B\":4,\"_\":5,\"a\\\"q\":null,\"b\":1}", writer.write( map ) );
+    }
+
+    public void testWriteOrderedIntegerKeys( ObjectWriterTester<LinkedHashMap<Integer, String>> writer ) {
+        LinkedHashMap<Integer, String> map = new LinkedHashMap<Integer, String>();
+        map.put( 10, "ten" );
+        map.put( 9, "nine" );
+        map.put( -1, "minus one" );
+        assertEquals( "{\"-1\":\"minus one\",\"9\":\"nine\",\"10\":\"ten\"}", writer.write( map ) );
+    }
+
 }